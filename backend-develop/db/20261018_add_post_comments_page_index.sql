@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 댓글 커서 페이징 : 게시글별 (created_at, id) 순서로 바로 읽기
+ALTER TABLE post_comments
+  ADD KEY idx_post_comments_post_created_id (post_id, created_at, id);
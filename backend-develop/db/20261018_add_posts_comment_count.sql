@@ -0,0 +1,14 @@
+USE yumyumcoach;
+
+-- 게시글 댓글 수 비정규화 컬럼 : 피드/상세 조회 시 post_comments COUNT(*) 대신 사용
+ALTER TABLE posts
+  ADD COLUMN comment_count INT NOT NULL DEFAULT 0 AFTER likes;
+
+-- 기존 데이터 채우기
+UPDATE posts p
+  JOIN (
+    SELECT post_id, COUNT(*) AS cnt
+    FROM post_comments
+    GROUP BY post_id
+  ) c ON c.post_id = p.id
+SET p.comment_count = c.cnt;
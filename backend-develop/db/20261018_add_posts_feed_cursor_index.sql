@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 피드 커서(keyset) 페이징용 인덱스 : ORDER BY created_at DESC, id DESC + (created_at, id) seek
+ALTER TABLE posts
+  ADD INDEX idx_posts_created_at_id (created_at, id);
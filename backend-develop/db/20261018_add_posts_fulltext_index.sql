@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 게시글 제목/내용 키워드 검색용 FULLTEXT 인덱스 (한글 검색을 위해 ngram parser 사용, 기본 ngram_token_size = 2)
+ALTER TABLE posts
+  ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,11 @@
+USE yumyumcoach;
+
+-- 인기순(POPULAR) 피드 : 좋아요/댓글 반영 시점에 미리 계산해 두는 점수 + 정렬용 인덱스
+ALTER TABLE posts
+  ADD COLUMN hot_score DOUBLE NOT NULL DEFAULT 0 AFTER comment_count,
+  ADD KEY idx_posts_hot_score_id (hot_score, id);
+
+-- 기존 데이터 한 번 채우기 (마이그레이션은 MyBatis 조각을 쓸 수 없어서 PostMapper.xml 의 hotScore 를 그대로 옮김)
+-- 식을 바꿀 때는 hotScore 만 고치고, 기존 행은 새 마이그레이션으로 다시 채움
+UPDATE posts
+SET hot_score = LOG10(GREATEST(likes + 2 * comment_count, 1)) + (UNIX_TIMESTAMP(created_at) - 1767225600) / 45000;
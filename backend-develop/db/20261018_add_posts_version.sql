@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 게시글 상세 ETag : 수정 / 좋아요 수 반영 / 댓글 수 변경 때마다 +1
+ALTER TABLE posts
+  ADD COLUMN version INT NOT NULL DEFAULT 0 AFTER hot_score;
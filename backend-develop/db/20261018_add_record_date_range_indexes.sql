@@ -0,0 +1,10 @@
+USE yumyumcoach;
+
+-- 식단 / 운동 기록 기간 조회 : email 로 좁힌 뒤 record_date 범위 [start, end) 를 인덱스로 읽음
+-- (email FK 인덱스만으로는 사용자 전체 기록을 읽고 날짜를 걸러야 함)
+ALTER TABLE diet_records
+  ADD KEY idx_diet_records_email_date (email, record_date);
+
+-- init.sql 로 만든 DB 에는 이미 있음. 예전 스키마로 만든 DB 에서만 실행
+-- ALTER TABLE exercise_records
+--   ADD KEY idx_exercise_records_email_date (email, record_date);
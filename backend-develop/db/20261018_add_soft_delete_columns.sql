@@ -0,0 +1,10 @@
+USE yumyumcoach;
+
+-- 게시글 삭제 / 회원탈퇴 : 삭제 표시 후 바로 조회에서 빼고, 연관 데이터는 백그라운드에서 나눠서 삭제
+ALTER TABLE posts
+  ADD COLUMN deleted_at DATETIME DEFAULT NULL AFTER hot_score,
+  ADD KEY idx_posts_deleted_at (deleted_at);
+
+ALTER TABLE accounts
+  ADD COLUMN deleted_at DATETIME DEFAULT NULL AFTER password,
+  ADD KEY idx_accounts_deleted_at (deleted_at);
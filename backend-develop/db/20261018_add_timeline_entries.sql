@@ -0,0 +1,26 @@
+USE yumyumcoach;
+
+-- 팔로잉 타임라인 : 게시글 작성 시 팔로워별로 게시글 ID 를 미리 넣어 둠 (fan-out-on-write)
+CREATE TABLE timeline_entries (
+    owner_email VARCHAR(255) NOT NULL,
+    post_id BIGINT UNSIGNED NOT NULL,
+    author_email VARCHAR(255) NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (owner_email, post_id),
+    KEY idx_timeline_entries_owner_author (owner_email, author_email),
+    KEY idx_timeline_entries_post (post_id),
+    CONSTRAINT fk_timeline_entries_owner
+        FOREIGN KEY (owner_email) REFERENCES accounts(email) ON DELETE CASCADE,
+    CONSTRAINT fk_timeline_entries_post
+        FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 데이터 채우기 : 팔로우 중인 사용자 + 내 게시글
+INSERT IGNORE INTO timeline_entries (owner_email, post_id, author_email, created_at)
+SELECT f.follower_email, p.id, p.author_email, p.created_at
+FROM follows f
+JOIN posts p ON p.author_email = f.followee_email;
+
+INSERT IGNORE INTO timeline_entries (owner_email, post_id, author_email, created_at)
+SELECT author_email, id, author_email, created_at
+FROM posts;
@@ -10,9 +10,11 @@ email VARCHAR(255) NOT NULL,
 id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
 username VARCHAR(255) NOT NULL,
 password VARCHAR(255) NOT NULL,
+deleted_at DATETIME DEFAULT NULL,
 PRIMARY KEY (email),
 UNIQUE KEY uq_accounts_id (id),
-UNIQUE KEY uq_accounts_username (username)
+UNIQUE KEY uq_accounts_username (username),
+KEY idx_accounts_deleted_at (deleted_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 2) refresh_tokens (중복 제거, 1회만)
@@ -72,7 +74,15 @@ category VARCHAR(255) DEFAULT NULL,
 content TEXT DEFAULT NULL,
 created_at DATETIME NOT NULL,
 likes INT NOT NULL DEFAULT 0,
+comment_count INT NOT NULL DEFAULT 0,
+hot_score DOUBLE NOT NULL DEFAULT 0,
+version INT NOT NULL DEFAULT 0,
+deleted_at DATETIME DEFAULT NULL,
 PRIMARY KEY (id),
+KEY idx_posts_created_at_id (created_at, id),
+KEY idx_posts_hot_score_id (hot_score, id),
+KEY idx_posts_deleted_at (deleted_at),
+FULLTEXT KEY ft_posts_title_content (title, content) WITH PARSER ngram,
 CONSTRAINT fk_posts_author
 FOREIGN KEY (author_email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -97,6 +107,7 @@ author_email VARCHAR(255) NOT NULL,
 content TEXT NOT NULL,
 created_at DATETIME NOT NULL,
 PRIMARY KEY (id),
+KEY idx_post_comments_post_created_id (post_id, created_at, id),
 CONSTRAINT fk_post_comments_post
 FOREIGN KEY (post_id) REFERENCES posts(id),
 CONSTRAINT fk_post_comments_author
@@ -124,6 +135,7 @@ record_date DATE NOT NULL,
 meal_type VARCHAR(255) NOT NULL,
 image_url VARCHAR(1024) DEFAULT NULL,
 PRIMARY KEY (id),
+KEY idx_diet_records_email_date (email, record_date),
 CONSTRAINT fk_diet_records_account
 FOREIGN KEY (email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -284,3 +296,18 @@ FOREIGN KEY (follower_email) REFERENCES accounts(email),
 CONSTRAINT fk_follows_followee
 FOREIGN KEY (followee_email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 20) timeline_entries (팔로잉 타임라인 fan-out)
+CREATE TABLE IF NOT EXISTS timeline_entries (
+owner_email VARCHAR(255) NOT NULL,
+post_id BIGINT UNSIGNED NOT NULL,
+author_email VARCHAR(255) NOT NULL,
+created_at DATETIME NOT NULL,
+PRIMARY KEY (owner_email, post_id),
+KEY idx_timeline_entries_owner_author (owner_email, author_email),
+KEY idx_timeline_entries_post (post_id),
+CONSTRAINT fk_timeline_entries_owner
+FOREIGN KEY (owner_email) REFERENCES accounts(email) ON DELETE CASCADE,
+CONSTRAINT fk_timeline_entries_post
+FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -14,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,12 +30,20 @@ public class AiDetectionService {
     @Value("${ai.server.detect-path:/api/v1/detect}")
     private String detectPath;
 
+    // 이미지는 메모리로 읽어서 전달하므로 크기를 따로 제한 (multipart 한도는 식단 가져오기 파일 기준)
+    @Value("${ai.detect.max-image-size:1MB}")
+    private DataSize maxImageSize;
+
     private final RestTemplate restTemplate = new RestTemplate();
 
     public AiDetectionResponse detect(MultipartFile image) {
         if (image == null || image.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST, "이미지 파일을 제공해주세요.");
         }
+        if (image.getSize() > maxImageSize.toBytes()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "이미지 파일은 " + maxImageSize.toMegabytes() + "MB 이하만 올릴 수 있습니다.");
+        }
 
         byte[] bytes = toBytes(image);
         HttpHeaders headers = new HttpHeaders();
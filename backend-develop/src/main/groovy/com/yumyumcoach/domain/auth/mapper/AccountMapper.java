@@ -15,17 +15,17 @@ login 로직에서 필요한 email 로 회원찾기
 public interface AccountMapper {
     Account findByEmail(@Param("email") String email);
 
-    // 이메일 중복 확인
+    // 이메일 중복 확인 (탈퇴 처리 중인 계정 포함, 정리가 끝나 행이 지워져야 같은 이메일로 다시 가입 가능)
     boolean existsByEmail(@Param("email") String email);
 
-    // 닉네임(username) 중복 확인
+    // 닉네임(username) 중복 확인 (탈퇴 처리 중인 계정 포함, uq_accounts_username 과 같은 기준)
     boolean existsByUsername(@Param("username") String username);
 
     // 신규 계정 저장
     void insertNewAccount(Account account);
 
-    // 탈퇴하려는 회원의 계정 삭제
-    void deleteAccountByEmail(@Param("email") String email);
+    // 탈퇴하려는 회원의 계정에 탈퇴 표시 (실제 삭제는 AccountPurgeWorker)
+    int markDeleted(@Param("email") String email);
 
     /**
      * userId(id)로 이메일 조회
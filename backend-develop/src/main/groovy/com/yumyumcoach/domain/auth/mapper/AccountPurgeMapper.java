@@ -0,0 +1,68 @@
+package com.yumyumcoach.domain.auth.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 탈퇴 표시된 계정 정리용 Mapper.
+ * - delete* 는 최대 limit 행만 지우고 지운 행 수를 반환
+ */
+@Mapper
+public interface AccountPurgeMapper {
+
+    // 탈퇴 표시된 계정 이메일 (오래된 순)
+    List<String> findDeletedEmails(@Param("limit") int limit);
+
+    // 아직 삭제 표시되지 않은 게시글 ID
+    List<Long> findLivePostIds(@Param("email") String email, @Param("limit") int limit);
+
+    int markPostsDeleted(@Param("postIds") List<Long> postIds);
+
+    // 삭제 표시 여부와 관계없이 게시글 행이 남아 있는지
+    boolean existsPosts(@Param("email") String email);
+
+    List<Long> findCommentIds(@Param("email") String email, @Param("limit") int limit);
+
+    void decreaseCommentCounts(@Param("commentIds") List<Long> commentIds);
+
+    void refreshHotScores(@Param("commentIds") List<Long> commentIds);
+
+    int deleteComments(@Param("commentIds") List<Long> commentIds);
+
+    List<Long> findLikedPostIds(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteLikes(@Param("email") String email, @Param("postIds") List<Long> postIds);
+
+    List<Long> findDietRecordIds(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteDietFoods(@Param("dietIds") List<Long> dietIds);
+
+    int deleteDietRecords(@Param("dietIds") List<Long> dietIds);
+
+    int deleteExerciseRecords(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteAiMealPlans(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteAiChatMessages(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteAiNutritionReviews(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteAiExerciseReviews(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteFollowings(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteFollowers(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteTimelineEntries(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteAccountTitles(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteChallengeParticipants(@Param("email") String email, @Param("limit") int limit);
+
+    int deleteProfile(@Param("email") String email);
+
+    // 탈퇴 표시된 계정만 삭제
+    int deleteAccount(@Param("email") String email);
+}
@@ -0,0 +1,64 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.mapper.AccountPurgeMapper;
+import com.yumyumcoach.domain.community.service.PostLikeCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 탈퇴 계정 정리 중 다른 테이블 값도 함께 바꿔야 하는 배치.
+ * - 배치 하나가 트랜잭션 하나 (카운터 감소와 행 삭제를 같이 커밋)
+ * - 반환값은 처리한 행 수, limit 보다 작으면 더 남은 행이 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountPurgeService {
+    private final AccountPurgeMapper accountPurgeMapper;
+    private final PostLikeCounter postLikeCounter;
+
+    /**
+     * 다른 사람 게시글에 남긴 댓글 삭제 + posts.comment_count 감소
+     */
+    @Transactional
+    public int purgeComments(String email, int limit) {
+        List<Long> commentIds = accountPurgeMapper.findCommentIds(email, limit);
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        accountPurgeMapper.decreaseCommentCounts(commentIds);
+        accountPurgeMapper.refreshHotScores(commentIds);
+        accountPurgeMapper.deleteComments(commentIds);
+        return commentIds.size();
+    }
+
+    /**
+     * 좋아요 삭제 + posts.likes 감소 (커밋 후 PostLikeCounter 로 반영)
+     */
+    @Transactional
+    public int purgeLikes(String email, int limit) {
+        List<Long> postIds = accountPurgeMapper.findLikedPostIds(email, limit);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        accountPurgeMapper.deleteLikes(email, postIds);
+        postIds.forEach(postId -> postLikeCounter.addAfterCommit(postId, -1));
+        return postIds.size();
+    }
+
+    /**
+     * 식단 기록 삭제 (diet_foods -> diet_records)
+     */
+    @Transactional
+    public int purgeDietRecords(String email, int limit) {
+        List<Long> dietIds = accountPurgeMapper.findDietRecordIds(email, limit);
+        if (dietIds.isEmpty()) {
+            return 0;
+        }
+        accountPurgeMapper.deleteDietFoods(dietIds);
+        accountPurgeMapper.deleteDietRecords(dietIds);
+        return dietIds.size();
+    }
+}
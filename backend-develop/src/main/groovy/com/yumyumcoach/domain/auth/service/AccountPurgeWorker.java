@@ -0,0 +1,101 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.mapper.AccountPurgeMapper;
+import com.yumyumcoach.domain.community.service.FeedPageCache;
+import com.yumyumcoach.domain.community.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 탈퇴 표시(accounts.deleted_at)된 계정의 연관 데이터 정리.
+ * - 회원탈퇴 요청은 표시만 하고 바로 응답하고, 실제 삭제는 여기서 나눠서 처리
+ * - 게시글은 삭제 표시만 해서 PostPurgeWorker 에 맡기고, 게시글 행이 모두 사라진 뒤에 나머지를 정리
+ * - 중간에 실패해도 계정 행은 남아 있으므로 다음 주기에 이어서 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPurgeWorker {
+    private static final int BATCH_SIZE = 500;
+    private static final int ACCOUNTS_PER_RUN = 10;
+
+    private final AccountPurgeMapper accountPurgeMapper;
+    private final AccountPurgeService accountPurgeService;
+    private final FeedPageCache feedPageCache;
+    private final TimelineService timelineService;
+
+    @Scheduled(fixedDelayString = "${auth.purge.interval-ms:10000}")
+    public void purgeDeletedAccounts() {
+        List<String> emails = accountPurgeMapper.findDeletedEmails(ACCOUNTS_PER_RUN);
+        for (String email : emails) {
+            try {
+                purge(email);
+            } catch (RuntimeException e) {
+                log.warn("탈퇴 계정 정리 실패, 다음 주기에 재시도합니다. (email={})", email, e);
+            }
+        }
+    }
+
+    void purge(String email) {
+        // 1) 게시글 : 삭제 표시 후 PostPurgeWorker 가 모두 지울 때까지 대기
+        //    (캐시된 피드 페이지와 팔로워 타임라인 버퍼에서도 바로 빠지게 무효화)
+        if (deleteInBatches(() -> markPostsDeleted(email)) > 0) {
+            feedPageCache.evictAllAfterCommit();
+        }
+        if (accountPurgeMapper.existsPosts(email)) {
+            return;
+        }
+
+        // 2) 커뮤니티 활동
+        deleteInBatches(() -> accountPurgeService.purgeComments(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeService.purgeLikes(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteFollowings(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteFollowers(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteTimelineEntries(email, BATCH_SIZE));
+
+        // 3) 식단 / 운동 / AI 기록
+        deleteInBatches(() -> accountPurgeService.purgeDietRecords(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteExerciseRecords(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteAiMealPlans(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteAiChatMessages(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteAiNutritionReviews(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteAiExerciseReviews(email, BATCH_SIZE));
+
+        // 4) 챌린지 / 칭호
+        deleteInBatches(() -> accountPurgeMapper.deleteChallengeParticipants(email, BATCH_SIZE));
+        deleteInBatches(() -> accountPurgeMapper.deleteAccountTitles(email, BATCH_SIZE));
+
+        // 5) 프로필, 계정 (refresh_tokens 는 ON DELETE CASCADE)
+        accountPurgeMapper.deleteProfile(email);
+        accountPurgeMapper.deleteAccount(email);
+    }
+
+    private int markPostsDeleted(String email) {
+        List<Long> postIds = accountPurgeMapper.findLivePostIds(email, BATCH_SIZE);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        accountPurgeMapper.markPostsDeleted(postIds);
+        timelineService.onPostsDeleted(postIds);
+        return postIds.size();
+    }
+
+    /**
+     * 처리한 행 수가 배치 크기보다 작아질 때까지 반복
+     * @return 처리한 전체 행 수
+     */
+    private static int deleteInBatches(IntSupplier batch) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+        } while (deleted >= BATCH_SIZE);
+        return total;
+    }
+}
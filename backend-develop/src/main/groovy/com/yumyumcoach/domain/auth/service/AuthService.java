@@ -5,6 +5,8 @@ import com.yumyumcoach.domain.auth.entity.Account;
 import com.yumyumcoach.domain.auth.entity.RefreshToken;
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
 import com.yumyumcoach.domain.auth.mapper.RefreshTokenMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.domain.user.service.AuthorCardCache;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import com.yumyumcoach.global.jwt.JwtTokenProvider;
@@ -25,6 +27,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenMapper refreshTokenMapper;
+    private final AuthorCardCache authorCardCache;
+    private final WeeklyStatsCache weeklyStatsCache;
     private static final Pattern EMAIL_PATTERN =
             Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
     private static final Pattern USERNAME_PATTERN =
@@ -133,8 +137,10 @@ public class AuthService {
         // refresh token 삭제
         deleteRefreshToken(request.getRefreshToken(), emailFromToken);
 
-        // 계정 삭제
-        accountMapper.deleteAccountByEmail(authenticatedEmail);
+        // 계정 탈퇴 표시 (연관 데이터는 AccountPurgeWorker 가 나눠서 삭제)
+        accountMapper.markDeleted(authenticatedEmail);
+        authorCardCache.evictAfterCommit(authenticatedEmail);
+        weeklyStatsCache.evictUserAfterCommit(authenticatedEmail);
 
         return new WithdrawResponse("회원탈퇴가 완료되었습니다.");
     }
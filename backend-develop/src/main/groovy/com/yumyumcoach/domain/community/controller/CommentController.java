@@ -2,6 +2,7 @@ package com.yumyumcoach.domain.community.controller;
 
 import com.yumyumcoach.domain.community.dto.CommentRequest;
 import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
 import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
 import com.yumyumcoach.domain.community.service.CommentService;
 import com.yumyumcoach.global.common.CurrentUser;
@@ -22,9 +23,8 @@ public class CommentController {
 
     // 특정 게시글의 댓글 목록 조회
     @GetMapping
-    public GetCommentsResponse getComments(@PathVariable("postId") Long postId) {
-        String email = CurrentUser.email();
-        return commentService.getComments(postId);
+    public GetCommentsResponse getComments(@PathVariable("postId") Long postId, GetCommentsRequest request) {
+        return commentService.getComments(postId, request);
     }
 
     // 댓글 작성
@@ -8,8 +8,11 @@ import com.yumyumcoach.domain.community.service.PostService;
 import com.yumyumcoach.global.common.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Community 게시글 관련 컨트롤러.
@@ -28,11 +31,27 @@ public class PostController {
         return postService.getPosts(request, email);
     }
 
+    // 팔로잉 타임라인 조회
+    @GetMapping("/timeline")
+    public GetPostsResponse getTimeline(GetPostsRequest request) {
+        String email = CurrentUser.email();
+        return postService.getTimeline(request, email);
+    }
+
     // 게시글 상세 조회
+    // - If-None-Match 가 있으면 버전만 먼저 비교해서, 바뀌지 않았으면 본문 조회 없이 304
     @GetMapping("/{postId}")
-    public PostResponse getPost(@PathVariable("postId") Long postId) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable("postId") Long postId, WebRequest webRequest) {
         String email = CurrentUser.email();
-        return postService.getPost(postId, email);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(postService.getPostETag(postId, email))) {
+            return null;
+        }
+
+        PostResponse post = postService.getPost(postId, email);
+        return ResponseEntity.ok()
+                .eTag(post.getEtag())
+                .body(post);
     }
 
     // 게시글 작성
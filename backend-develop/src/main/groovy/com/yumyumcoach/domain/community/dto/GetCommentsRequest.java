@@ -0,0 +1,31 @@
+package com.yumyumcoach.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 특정 게시글의 댓글 목록 조회 요청 DTO.
+ * - GET /api/posts/{postId}/comments
+ * - 작성순(created_at, id) 커서 페이징 : 이전 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지 조회
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetCommentsRequest {
+    /**
+     * 페이지 사이즈 (기본값 20, 최대 100)
+     */
+    @Builder.Default
+    private int size = 20;
+
+    /**
+     * 다음 페이지 조회용 커서 (이전 응답의 nextCursor)
+     * - 첫 페이지는 비워서 요청
+     */
+    private String cursor;
+}
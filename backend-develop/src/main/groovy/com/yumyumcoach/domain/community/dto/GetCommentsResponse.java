@@ -23,10 +23,20 @@ public class GetCommentsResponse {
     private Long postId;
 
     /**
-     * 해당 게시글에 달린 전체 댓글 개수
+     * 해당 게시글에 달린 전체 댓글 개수 (posts.comment_count)
      */
     private long totalCount;
 
+    /**
+     * 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
     /**
      * 댓글 목록
      */
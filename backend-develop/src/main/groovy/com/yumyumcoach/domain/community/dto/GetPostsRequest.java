@@ -4,18 +4,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * 전체 게시글 목록 조회 요청 DTO.
  * - GET /api/posts
+ * - 페이징 방식은 두 가지
+ *   1) OFFSET (기본값): page / size 기반, 기존 클라이언트 호환용
+ *   2) CURSOR: 이전 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지 조회 (깊은 페이지도 일정한 속도)
  */
 @Getter
+@Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class GetPostsRequest {
     /**
      * 1부터 시작하는 페이지 번호 (기본값 1)
+     * - OFFSET 모드에서만 사용
      */
     @Builder.Default
     private int page = 1;
@@ -27,16 +33,34 @@ public class GetPostsRequest {
     private int size = 20;
 
     /**
-     * [TODO] 검색 키워드
-     * - 현재는 사용하지 않음
-     * - 추후 제목/내용 검색 기능 추가 시 활용 예정
+     * 검색 키워드
+     * - 제목/내용 FULLTEXT(ngram) 검색
+     * - 2글자 이상부터 검색됨 (ngram_token_size = 2)
      */
     private String keyword;
 
     /**
-     * [TODO] 정렬 기준
-     * - 예: "LATEST", "POPULAR"
-     * - 현재는 사용하지 않음
+     * 정렬 기준
+     * - "LATEST" : 최신순
+     * - "RELEVANCE" : 검색 관련도순 (keyword 가 있을 때 기본값)
+     * - "POPULAR" : 인기순 (hot_score)
      */
     private String sort;
+
+    /**
+     * 페이징 방식
+     * - "OFFSET"(기본값) / "CURSOR"
+     * - cursor 값이 넘어오면 paging 값과 관계없이 CURSOR 모드로 동작
+     */
+    private String paging;
+
+    /**
+     * 다음 페이지 조회용 커서 (이전 응답의 nextCursor)
+     * - CURSOR 모드 첫 페이지는 비워서 요청
+     */
+    private String cursor;
+
+    public boolean isCursorMode() {
+        return "CURSOR".equalsIgnoreCase(paging) || (cursor != null && !cursor.isBlank());
+    }
 }
@@ -1,5 +1,6 @@
 package com.yumyumcoach.domain.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +11,7 @@ import java.util.List;
 /**
  * 전체 게시글 목록 조회(피드) 응답 DTO.
  * - 페이징 정보(page, size, totalCount)
+ * - 커서 페이징 정보(nextCursor, hasNext) : CURSOR 모드에서만 내려감 (OFFSET 모드 응답 형식은 기존과 같음)
  * - 현재 페이지에 포함된 게시글 목록(posts)
  */
 @Getter
@@ -19,6 +21,7 @@ import java.util.List;
 public class GetPostsResponse {
     /**
      * 현재 페이지 번호 (1부터 시작)
+     * - CURSOR 모드에서는 0
      */
     private int page;
 
@@ -29,9 +32,23 @@ public class GetPostsResponse {
 
     /**
      * 전체 게시글 개수
+     * - CURSOR 모드에서는 잠깐 캐시된 근사값, 타임라인은 개수를 세지 않으므로 0
      */
     private long totalCount;
 
+    /**
+     * 다음 페이지 조회용 커서 (CURSOR 모드)
+     * - 다음 페이지가 없으면 null
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부 (CURSOR 모드, OFFSET 모드에서는 내려가지 않음)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
     /**
      * 현재 페이지에 포함된 게시글 목록
      */
@@ -1,5 +1,6 @@
 package com.yumyumcoach.domain.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +15,7 @@ import java.util.List;
  * - 댓글 목록은 별도 API (/api/posts/{postId}/comments) 로 제공
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
@@ -24,9 +25,14 @@ public class PostResponse {
      */
     private Long postId;
 
+    /**
+     * 작성자 이메일 (작성자 정보 조회용, 응답에는 포함하지 않음)
+     */
+    @JsonIgnore
+    private String authorEmail;
+
     /**
      * 작성자 ID
-     * - User 도메인 연동 후 채워질 값
      */
     private Long authorId;
 
@@ -82,5 +88,11 @@ public class PostResponse {
      * 마지막 수정 시각
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * 상세 조회 ETag (응답 헤더로만 내려보냄)
+     */
+    @JsonIgnore
+    private String etag;
 }
 
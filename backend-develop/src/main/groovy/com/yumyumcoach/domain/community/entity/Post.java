@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -18,7 +19,13 @@ public class Post {
 //    private String category;
     private LocalDateTime createdAt;
     private int likes;
+    private int commentCount;
     private String authorEmail;
+    // 수정 / 좋아요 수 반영 / 댓글 수 변경 때마다 +1 (상세 조회 ETag 용)
+    private int version;
+    // 정렬 점수 (RELEVANCE : 소수점 10자리로 고정한 검색 관련도, POPULAR : hot_score, 점수 정렬 조회 시에만 채워짐)
+    // 커서에 그대로 담았다가 다시 비교하므로 double 이 아니라 정확한 십진수로 보관
+    private BigDecimal score;
 
     // 나중에 category 추가시 주석 풀기
 //    public void update(String title, String content, String category) {
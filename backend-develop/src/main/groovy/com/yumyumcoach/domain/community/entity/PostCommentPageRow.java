@@ -0,0 +1,25 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 페이지 조회 결과 한 행 (posts LEFT JOIN post_comments).
+ * - 게시글은 있는데 댓글이 없으면 comment 관련 값이 모두 null 인 행 1개
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCommentPageRow {
+    private Long postId;
+    private int commentCount;   // posts.comment_count
+    private Long commentId;
+    private String authorEmail;
+    private String content;
+    private LocalDateTime createdAt;
+}
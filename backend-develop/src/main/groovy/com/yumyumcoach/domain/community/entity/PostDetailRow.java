@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회 결과 한 행 (posts LEFT JOIN post_images).
+ * - 이미지 수만큼 행이 나오고, 이미지가 없으면 imageUrl 이 null 인 행 1개
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailRow {
+    private Long id;
+    private String authorEmail;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+    private int likes;
+    private int commentCount;
+    private int version;
+    private String imageUrl;
+}
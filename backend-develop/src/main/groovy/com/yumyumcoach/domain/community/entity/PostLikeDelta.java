@@ -0,0 +1,18 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * posts.likes 에 한 번에 반영할 게시글별 좋아요 증감값.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeDelta {
+    private Long postId;
+    private long delta;
+}
@@ -1,17 +1,24 @@
 package com.yumyumcoach.domain.community.mapper;
 
 import com.yumyumcoach.domain.community.entity.PostComment;
+import com.yumyumcoach.domain.community.entity.PostCommentPageRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface PostCommentMapper {
 
-    List<PostComment> findByPostId(@Param("postId") Long postId);
-
-    long countByPostId(@Param("postId") Long postId);
+    /**
+     * 게시글 존재 여부 + 댓글 수 + 커서 다음 댓글 limit 개를 한 번에 조회
+     * - 게시글이 없으면 빈 목록
+     */
+    List<PostCommentPageRow> findPageByPostId(@Param("postId") Long postId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              @Param("limit") int limit);
 
     PostComment findById(@Param("commentId") Long commentId);
 
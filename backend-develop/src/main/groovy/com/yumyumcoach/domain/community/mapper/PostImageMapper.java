@@ -10,7 +10,30 @@ import java.util.List;
 public interface PostImageMapper {
     List<PostImage> findByPostId(@Param("postId") Long postId);
 
+    /**
+     * 여러 게시글의 이미지를 한 번에 조회 (피드 목록 조회용)
+     */
+    List<PostImage> findByPostIds(@Param("postIds") List<Long> postIds);
+
     void insert(PostImage postImage);
 
+    /**
+     * 여러 장 한 번에 INSERT (multi-row VALUES)
+     */
+    void insertBatch(@Param("images") List<PostImage> images);
+
+    /**
+     * 순서가 바뀐 이미지의 order_index 를 음수(-새 순서)로 임시 변경
+     * - uq_post_images_post_order 충돌을 피하려고 flipOrderIndexes 와 두 단계로 나눔
+     */
+    void updateOrderIndexesNegated(@Param("images") List<PostImage> images);
+
+    /**
+     * 음수로 바꿔 둔 order_index 를 양수로 되돌림
+     */
+    void flipOrderIndexes(@Param("postId") Long postId);
+
+    void deleteByIds(@Param("ids") List<Long> ids);
+
     void deleteByPostId(@Param("postId") Long postId);
 }
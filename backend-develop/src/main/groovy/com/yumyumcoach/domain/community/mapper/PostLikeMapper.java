@@ -4,6 +4,8 @@ import com.yumyumcoach.domain.community.entity.PostLike;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface PostLikeMapper {
     /**
@@ -12,15 +14,29 @@ public interface PostLikeMapper {
     boolean existsByPostIdAndAuthorEmail(@Param("postId") Long postId,
                                          @Param("authorEmail") String authorEmail);
 
+    /**
+     * 주어진 게시글 중 특정 유저가 좋아요 누른 게시글 ID 목록
+     */
+    List<Long> findLikedPostIds(@Param("postIds") List<Long> postIds,
+                                @Param("authorEmail") String authorEmail);
+
+    /**
+     * 특정 유저가 좋아요 누른 게시글 ID 전체 (최대 limit 개, 정렬 안 함)
+     */
+    List<Long> findPostIdsByEmail(@Param("authorEmail") String authorEmail,
+                                  @Param("limit") int limit);
+
     /**
      * 좋아요 추가
+     * - 이미 눌렀으면 (post_id, email) PK 때문에 무시되고 0 반환
      */
-    void insert(PostLike like);
+    int insertIgnore(PostLike like);
 
     /**
      * 좋아요 취소
+     * - 삭제된 행 수 반환 (좋아요가 없었으면 0)
      */
-    void deleteByPostIdAndAuthorEmail(@Param("postId") Long postId,
+    int deleteByPostIdAndAuthorEmail(@Param("postId") Long postId,
                                       @Param("authorEmail") String authorEmail);
 
     /**
@@ -1,20 +1,64 @@
 package com.yumyumcoach.domain.community.mapper;
 
 import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostDetailRow;
+import com.yumyumcoach.domain.community.entity.PostLikeDelta;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface PostMapper {
     Post findById(@Param("postId") Long postId);
 
+    /**
+     * id, authorEmail, likes, version 만 조회 (조건부 GET 비교용)
+     */
+    Post findVersionById(@Param("postId") Long postId);
+
+    /**
+     * 게시글 + 이미지 조인 조회 (이미지 order_index 순, 게시글이 없으면 빈 목록)
+     */
+    List<PostDetailRow> findDetailById(@Param("postId") Long postId);
+
+    /**
+     * 목록 조회 (OFFSET 페이징)
+     * - keyword 가 있으면 제목/내용 FULLTEXT 검색
+     * - sort : PostSort 이름 (LATEST / RELEVANCE)
+     */
     List<Post> findPosts(@Param("offset") int offset,
                          @Param("size") int size,
                          @Param("keyword") String keyword,
                          @Param("sort") String sort);
 
+    /**
+     * 커서(keyset) 페이징 목록 조회
+     * - LATEST : (cursorCreatedAt, cursorId) 보다 뒤(오래된) 게시글을 created_at DESC, id DESC 순으로 limit 개 조회
+     * - RELEVANCE / POPULAR : (cursorScore, cursorId) 보다 뒤(점수 낮은) 게시글을 score DESC, id DESC 순으로 limit 개 조회
+     * - 커서가 null 이면 첫 페이지
+     */
+    List<Post> findPostsByCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorScore") BigDecimal cursorScore,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("limit") int limit,
+                                 @Param("keyword") String keyword,
+                                 @Param("sort") String sort);
+
+    /**
+     * 여러 게시글 한 번에 조회 (순서 보장 안 함)
+     */
+    List<Post> findByIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 여러 작성자의 게시글 ID (최신순, beforeId 보다 작은 것만)
+     */
+    List<Long> findIdsByAuthors(@Param("authorEmails") List<String> authorEmails,
+                                @Param("beforeId") Long beforeId,
+                                @Param("limit") int limit);
+
     long countPosts(@Param("keyword") String keyword);
 
     void insert(Post post);
@@ -23,7 +67,40 @@ public interface PostMapper {
 
     void delete(@Param("postId") Long postId);
 
-    void increaseLikes(@Param("postId") Long postId);
+    /**
+     * 삭제 표시 (deleted_at) : 실제 행 삭제는 PostPurgeWorker 가 수행
+     * @return 수정된 행 수 (0이면 이미 삭제됨)
+     */
+    int markDeleted(@Param("postId") Long postId);
+
+    /**
+     * 게시글별 좋아요 증감값을 한 번의 UPDATE 로 반영 (0 미만으로 내려가지 않음)
+     */
+    void applyLikeDeltas(@Param("deltas") List<PostLikeDelta> deltas);
+
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    void decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * posts.id 최댓값 (댓글 수 / 좋아요 수 보정 배치 범위 계산용)
+     */
+    Long findMaxId();
+
+    /**
+     * (fromId, toId] 구간 게시글의 comment_count 를 실제 댓글 수와 맞춤
+     * @return 보정된 게시글 수
+     */
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * (fromId, toId] 구간에서 likes 가 실제 좋아요(post_likes) 수와 다른 게시글의 id, version
+     */
+    List<Post> findLikeCountDrifts(@Param("fromId") long fromId, @Param("toId") long toId);
 
-    void decreaseLikes(@Param("postId") Long postId);
+    /**
+     * likes 를 실제 좋아요 수로 맞춤 (조회했을 때와 version 이 같은 게시글만)
+     * @return 보정된 게시글 수
+     */
+    int repairLikeCounts(@Param("posts") List<Post> posts);
 }
@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 삭제 표시된 게시글 정리용 Mapper.
+ * - delete* 는 최대 limit 행만 지우고 지운 행 수를 반환
+ */
+@Mapper
+public interface PostPurgeMapper {
+
+    // 삭제 표시된 게시글 ID (오래된 순)
+    List<Long> findDeletedPostIds(@Param("limit") int limit);
+
+    int deleteImages(@Param("postId") Long postId, @Param("limit") int limit);
+
+    int deleteComments(@Param("postId") Long postId, @Param("limit") int limit);
+
+    int deleteLikes(@Param("postId") Long postId, @Param("limit") int limit);
+
+    int deleteTimelineEntries(@Param("postId") Long postId, @Param("limit") int limit);
+
+    // 연관 데이터를 모두 지운 뒤 게시글 행 삭제 (삭제 표시된 행만)
+    int deletePost(@Param("postId") Long postId);
+}
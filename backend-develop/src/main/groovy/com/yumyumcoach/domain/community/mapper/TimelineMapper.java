@@ -0,0 +1,44 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface TimelineMapper {
+    /**
+     * 새 게시글을 여러 사용자의 타임라인에 한 번에 추가 (fan-out)
+     */
+    void insertEntries(@Param("postId") Long postId,
+                       @Param("authorEmail") String authorEmail,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("ownerEmails") List<String> ownerEmails);
+
+    /**
+     * 타임라인 게시글 ID 목록 (최신순, beforeId 보다 작은 것만)
+     */
+    List<Long> findPostIds(@Param("ownerEmail") String ownerEmail,
+                           @Param("beforeId") Long beforeId,
+                           @Param("limit") int limit);
+
+    /**
+     * 새로 팔로우한 사용자의 최근 게시글을 내 타임라인에 채움
+     */
+    void insertRecentPostsOf(@Param("ownerEmail") String ownerEmail,
+                             @Param("authorEmail") String authorEmail,
+                             @Param("limit") int limit);
+
+    /**
+     * 작성자의 최근 게시글을 팔로워 전원의 타임라인에 채움 (pull 작성자에서 빠질 때)
+     */
+    void insertRecentPostsForFollowers(@Param("authorEmail") String authorEmail,
+                                       @Param("limit") int limit);
+
+    /**
+     * 언팔로우한 사용자의 게시글을 내 타임라인에서 제거
+     */
+    void deleteByOwnerAndAuthor(@Param("ownerEmail") String ownerEmail,
+                                @Param("authorEmail") String authorEmail);
+}
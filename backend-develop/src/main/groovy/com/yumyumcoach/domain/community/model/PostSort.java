@@ -0,0 +1,39 @@
+package com.yumyumcoach.domain.community.model;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+public enum PostSort {
+    LATEST,     // 최신순 : created_at DESC, id DESC
+    RELEVANCE,  // 검색 관련도순 : FULLTEXT 점수 DESC, id DESC (keyword 가 있을 때만 의미 있음)
+    POPULAR;    // 인기순 : hot_score DESC, id DESC
+
+    /**
+     * 정렬 키가 created_at 이 아니라 점수(score)인지 여부 (커서에 점수를 담음)
+     */
+    public boolean isScoreOrdered() {
+        return this != LATEST;
+    }
+
+    /**
+     * 요청 sort 값 -> 정렬 기준
+     * - sort 가 비어 있으면 keyword 유무에 따라 RELEVANCE / LATEST
+     * - keyword 없이 RELEVANCE 를 요청하면 LATEST 로 처리
+     */
+    public static PostSort resolve(String sort, String keyword) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        if (sort == null || sort.isBlank()) {
+            return hasKeyword ? RELEVANCE : LATEST;
+        }
+
+        PostSort parsed;
+        try {
+            parsed = PostSort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 정렬 기준입니다.");
+        }
+        return parsed == RELEVANCE && !hasKeyword ? LATEST : parsed;
+    }
+}
@@ -3,11 +3,16 @@ package com.yumyumcoach.domain.community.service;
 
 import com.yumyumcoach.domain.community.dto.CommentRequest;
 import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
 import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
 import com.yumyumcoach.domain.community.entity.Post;
 import com.yumyumcoach.domain.community.entity.PostComment;
+import com.yumyumcoach.domain.community.entity.PostCommentPageRow;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.user.dto.AuthorCard;
+import com.yumyumcoach.domain.user.service.AuthorCardCache;
+import com.yumyumcoach.global.common.PageCursor;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Community 댓글 관련 서비스.
@@ -26,41 +32,69 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostMapper postMapper;
     private final PostCommentMapper postCommentMapper;
+    private final FeedPageCache feedPageCache;
+    private final AuthorCardCache authorCardCache;
 
     /**
      * 특정 게시글의 댓글 목록 조회
      * - GET /api/posts/{postId}/comments
+     * - 작성순 커서 페이징, size + 1 개를 읽어서 다음 페이지 존재 여부 판단
+     * - 게시글 존재 확인 / 전체 개수(posts.comment_count) / 댓글 페이지를 쿼리 한 번으로 조회
      */
-    public GetCommentsResponse getComments(Long postId) {
-        // 1) 게시글 존재 여부 확인
-        Post post = postMapper.findById(postId);
-        if (post == null) {
+    public GetCommentsResponse getComments(Long postId, GetCommentsRequest request) {
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+        PageCursor cursor = request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : PageCursor.decode(request.getCursor());
+
+        // 1) 게시글 + 댓글 페이지 조회 (게시글이 없으면 0행)
+        List<PostCommentPageRow> rows = postCommentMapper.findPageByPostId(
+                postId,
+                cursor == null ? null : cursor.keyAsDateTime(),
+                cursor == null ? null : cursor.id(),
+                size + 1);
+        if (rows.isEmpty()) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND, "댓글을 조회할 게시글을 찾을 수 없습니다.");
         }
 
-        // 2) 댓글 목록 조회
-        List<PostComment> comments = postCommentMapper.findByPostId(postId);
-
-        // 3) CommentResponse 리스트로 매핑
-        List<CommentResponse> commentResponses = comments.stream()
-                .map(comment -> CommentResponse.builder()
-                        .commentId(comment.getId())
-                        .postId(comment.getPostId())
-                        // User 도메인 연동 전 : 일단 author 관련은 null로 세팅
-                        .authorId(null)
-                        .authorUsername(null)
-                        .authorProfileImageUrl(null)
-                        .content(comment.getContent())
-                        .createdAt(comment.getCreatedAt())
-                        .build()
-                )
+        // 2) 댓글이 없는 게시글은 댓글 컬럼이 NULL 인 1행
+        List<PostCommentPageRow> commentRows = rows.stream()
+                .filter(row -> row.getCommentId() != null)
+                .toList();
+        boolean hasNext = commentRows.size() > size;
+        List<PostCommentPageRow> pageRows = hasNext ? commentRows.subList(0, size) : commentRows;
+
+        // 3) 작성자 정보는 AuthorCardCache 에서 한 번에 조회
+        Map<String, AuthorCard> authors = authorCardCache.getAll(pageRows.stream()
+                .map(PostCommentPageRow::getAuthorEmail)
+                .toList());
+
+        // 4) CommentResponse 리스트로 매핑
+        List<CommentResponse> commentResponses = pageRows.stream()
+                .map(row -> toCommentResponse(PostComment.builder()
+                        .id(row.getCommentId())
+                        .postId(row.getPostId())
+                        .authorEmail(row.getAuthorEmail())
+                        .content(row.getContent())
+                        .createdAt(row.getCreatedAt())
+                        .build(), authors.get(row.getAuthorEmail())))
                 .toList();
 
+        String nextCursor = null;
+        if (hasNext) {
+            PostCommentPageRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getCommentId()).encode();
+        }
+
         return GetCommentsResponse.builder()
                 .postId(postId)
-                .totalCount(commentResponses.size())
+                .totalCount(rows.get(0).getCommentCount())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .comments(commentResponses)
                 .build();
     }
@@ -89,15 +123,11 @@ public class CommentService {
         // 3) DB 저장 (id 자동 증가)
         postCommentMapper.insert(comment); // useGeneratedKeys=true 로 인해 comment.id 세팅됨
 
-        return CommentResponse.builder()
-                .commentId(comment.getId())
-                .postId(postId)
-                .authorId(null)   // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
-                .content(comment.getContent())
-                .createdAt(comment.getCreatedAt())
-                .build();
+        // 4) posts.comment_count +1 (같은 트랜잭션)
+        postMapper.increaseCommentCount(postId);
+        feedPageCache.evictPostAfterCommit(postId);
+
+        return toCommentResponse(comment, authorCardCache.get(loginUserEmail));
     }
 
     /**
@@ -124,12 +154,13 @@ public class CommentService {
                 .content(request.getContent())
                 .build());
 
+        AuthorCard author = authorCardCache.get(existing.getAuthorEmail());
         return CommentResponse.builder()
                 .commentId(commentId)
                 .postId(postId)
-                .authorId(null)
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .authorId(author == null ? null : author.getUserId())
+                .authorUsername(author == null ? null : author.getUsername())
+                .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
                 .content(request.getContent())
                 .createdAt(existing.getCreatedAt())
                 .build();
@@ -155,5 +186,21 @@ public class CommentService {
 
         // 3) 해당 댓글 1개만 삭제
         postCommentMapper.delete(commentId);
+
+        // 4) posts.comment_count -1 (같은 트랜잭션)
+        postMapper.decreaseCommentCount(postId);
+        feedPageCache.evictPostAfterCommit(postId);
+    }
+
+    private CommentResponse toCommentResponse(PostComment comment, AuthorCard author) {
+        return CommentResponse.builder()
+                .commentId(comment.getId())
+                .postId(comment.getPostId())
+                .authorId(author == null ? null : author.getUserId())
+                .authorUsername(author == null ? null : author.getUsername())
+                .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .build();
     }
 }
@@ -0,0 +1,109 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import com.yumyumcoach.domain.community.model.PostSort;
+import com.yumyumcoach.global.cache.CacheMetrics;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 없는 피드 앞쪽 페이지 캐시.
+ * - 사용자와 무관한 부분(게시글/이미지/좋아요 수/댓글 수)만 보관하고, isLikedByMe 는 조회 시점에 덮어씀
+ * - 게시글 작성/삭제 시 전체 무효화, 수정/좋아요/댓글 시 해당 게시글이 들어 있는 페이지만 무효화
+ * - 무효화는 트랜잭션 커밋 후에 수행 (커밋 전 데이터로 다시 채워지는 것 방지)
+ * - 조회 도중 무효화가 일어났으면 조회 결과는 캐시에 넣지 않음 (generation 비교)
+ */
+@Component
+public class FeedPageCache {
+    public static final int MAX_CACHED_PAGES = 3;
+    private static final long TTL_MILLIS = 30_000L;
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<String, Page> pages = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheMetrics metrics;
+
+    public FeedPageCache(CacheMetricsRegistry cacheMetricsRegistry) {
+        this.metrics = cacheMetricsRegistry.register("feedPages");
+    }
+
+    public static String offsetKey(PostSort sort, int page, int size) {
+        return "OFFSET:" + sort + ":" + page + ":" + size;
+    }
+
+    public static String firstCursorKey(PostSort sort, int size) {
+        return "CURSOR:" + sort + ":" + size;
+    }
+
+    /**
+     * 캐시 적재 전에 읽어 두는 값 (put 할 때 그 사이 무효화가 있었는지 확인용)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public Page get(String key) {
+        Page page = pages.get(key);
+        long now = System.currentTimeMillis();
+        if (page == null || now - page.loadedAt() >= TTL_MILLIS) {
+            metrics.recordMiss();
+            return null;
+        }
+        metrics.recordHit(now - page.loadedAt());
+        return page;
+    }
+
+    public void put(String key, Page page, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+        if (pages.size() >= MAX_ENTRIES) {
+            metrics.recordEvictions(pages.size());
+            pages.clear();
+        }
+        pages.put(key, page);
+    }
+
+    public void evictAllAfterCommit() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            int size = pages.size();
+            pages.clear();
+            metrics.recordEvictions(size);
+        });
+    }
+
+    public void evictPostAfterCommit(Long postId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            pages.forEach((key, page) -> {
+                if (page.postIds().contains(postId) && pages.remove(key, page)) {
+                    metrics.recordEvictions(1);
+                }
+            });
+        });
+    }
+
+    /**
+     * 캐시된 피드 한 페이지
+     * - totalCount 는 OFFSET 모드에서만 사용
+     */
+    public record Page(List<PostResponse> posts, long totalCount, boolean hasNext, String nextCursor,
+                       Set<Long> postIds, long loadedAt) {
+
+        public static Page of(List<PostResponse> posts, long totalCount, boolean hasNext, String nextCursor) {
+            Set<Long> postIds = posts.stream()
+                    .map(PostResponse::getPostId)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new Page(List.copyOf(posts), totalCount, hasNext, nextCursor, postIds, System.currentTimeMillis());
+        }
+    }
+}
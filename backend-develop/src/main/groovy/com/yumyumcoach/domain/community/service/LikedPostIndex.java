@@ -0,0 +1,161 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
+import com.yumyumcoach.global.cache.CacheMetrics;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 "좋아요 누른 게시글 ID" 인덱스.
+ * - 정렬된 long[] 로 보관하고 isLikedByMe 는 이진 탐색으로 판단 (페이지당 DB 조회 없음)
+ * - 처음 필요할 때 post_likes 에서 한 번 읽어 오고, 좋아요/취소 커밋 후 갱신
+ * - 다른 인스턴스에서 누른 좋아요는 TTL 이 지나 다시 읽을 때 반영
+ * - 조회 도중 같은 사용자의 좋아요가 바뀌었으면 조회 결과는 보관하지 않음 (사용자별 version 비교)
+ * - 좋아요가 너무 많은 사용자는 목록을 보관하지 않고 매번 IN 쿼리로 조회
+ */
+@Component
+public class LikedPostIndex {
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int MAX_USERS = 10_000;
+    private static final int MAX_IDS_PER_USER = 10_000;
+
+    private final PostLikeMapper postLikeMapper;
+    private final CacheMetrics metrics;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    public LikedPostIndex(PostLikeMapper postLikeMapper, CacheMetricsRegistry cacheMetricsRegistry) {
+        this.postLikeMapper = postLikeMapper;
+        this.metrics = cacheMetricsRegistry.register("likedPostIndex");
+    }
+
+    /**
+     * postIds 중 사용자가 좋아요 누른 게시글 ID
+     */
+    public Set<Long> likedAmong(String email, Collection<Long> postIds) {
+        long[] likedIds = likedIds(email);
+        if (likedIds == null) {
+            return new HashSet<>(postLikeMapper.findLikedPostIds(List.copyOf(postIds), email));
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (Long postId : postIds) {
+            if (Arrays.binarySearch(likedIds, postId) >= 0) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    public boolean isLiked(String email, Long postId) {
+        return !likedAmong(email, List.of(postId)).isEmpty();
+    }
+
+    public void addAfterCommit(String email, Long postId) {
+        AfterCommit.run(() -> update(email, postId, true));
+    }
+
+    public void removeAfterCommit(String email, Long postId) {
+        AfterCommit.run(() -> update(email, postId, false));
+    }
+
+    /**
+     * 보관 중이면 그대로, 없거나 만료됐으면 post_likes 에서 읽어서 보관
+     * - 좋아요가 MAX_IDS_PER_USER 개를 넘으면 null
+     */
+    private long[] likedIds(String email) {
+        long now = System.currentTimeMillis();
+        Slot slot = slots.get(email);
+        Loaded cached = slot == null ? null : slot.loaded;
+        if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+            metrics.recordHit(now - cached.loadedAt());
+            return cached.ids();
+        }
+        metrics.recordMiss();
+
+        if (slot == null) {
+            if (slots.size() >= MAX_USERS) {
+                metrics.recordEvictions(slots.size());
+                slots.clear();
+            }
+            slot = slots.computeIfAbsent(email, key -> new Slot());
+        }
+        long loadedVersion = slot.version();
+
+        List<Long> rows = postLikeMapper.findPostIdsByEmail(email, MAX_IDS_PER_USER + 1);
+        long[] ids = null;
+        if (rows.size() <= MAX_IDS_PER_USER) {
+            ids = rows.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(ids);
+        }
+        slot.store(loadedVersion, new Loaded(ids, now));
+        return ids;
+    }
+
+    private void update(String email, Long postId, boolean liked) {
+        Slot slot = slots.get(email);
+        if (slot != null) {
+            slot.apply(postId, liked);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 인덱스
+     * - version : 좋아요/취소가 반영될 때마다 증가 (조회 시작 시점과 다르면 조회 결과를 버림)
+     * - loaded.ids 가 null 이면 좋아요가 너무 많아서 보관하지 않는 사용자
+     */
+    private static final class Slot {
+        private long version;
+        private volatile Loaded loaded;
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized void store(long loadedVersion, Loaded result) {
+            if (version == loadedVersion) {
+                loaded = result;
+            }
+        }
+
+        synchronized void apply(Long postId, boolean liked) {
+            version++;
+            Loaded current = loaded;
+            if (current == null || current.ids() == null) {
+                return;
+            }
+
+            long[] ids = current.ids();
+            int at = Arrays.binarySearch(ids, postId);
+            if (liked && at < 0) {
+                if (ids.length >= MAX_IDS_PER_USER) {
+                    loaded = null;
+                    return;
+                }
+                int insertAt = -at - 1;
+                long[] updated = new long[ids.length + 1];
+                System.arraycopy(ids, 0, updated, 0, insertAt);
+                updated[insertAt] = postId;
+                System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+                loaded = new Loaded(updated, current.loadedAt());
+            } else if (!liked && at >= 0) {
+                long[] updated = new long[ids.length - 1];
+                System.arraycopy(ids, 0, updated, 0, at);
+                System.arraycopy(ids, at + 1, updated, at, ids.length - at - 1);
+                loaded = new Loaded(updated, current.loadedAt());
+            }
+        }
+    }
+
+    private record Loaded(long[] ids, long loadedAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * posts.comment_count 보정 배치.
+ * - 댓글 작성/삭제 시 같은 트랜잭션에서 카운터를 맞추지만, 수동 데이터 수정 등으로 어긋난 값을 주기적으로 복구
+ * - 게시글 id 구간 단위로 나눠서 UPDATE 하므로 한 번에 잡는 행 잠금 범위가 작음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountReconciler {
+    private static final long BATCH_SIZE = 500L;
+
+    private final PostMapper postMapper;
+
+    @Scheduled(initialDelayString = "${community.comment-count-reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${community.comment-count-reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        Long maxId = postMapper.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for (long fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            repaired += postMapper.reconcileCommentCounts(fromId, fromId + BATCH_SIZE);
+        }
+
+        if (repaired > 0) {
+            log.info("posts.comment_count 보정 완료: {}건", repaired);
+        }
+    }
+}
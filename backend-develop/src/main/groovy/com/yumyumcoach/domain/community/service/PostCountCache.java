@@ -0,0 +1,43 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 전체 개수(COUNT(*)) 캐시.
+ * - CURSOR 모드 피드의 totalCount 에 사용
+ * - TTL 동안은 같은 값을 돌려주므로 정확한 값이 아닌 근사값
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+    private static final long TTL_MILLIS = 30_000L;
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final PostMapper postMapper;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public long get(String keyword) {
+        String key = keyword == null ? "" : keyword;
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+            return cached.count();
+        }
+
+        long count = postMapper.countPosts(keyword);
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * posts.likes 보정 배치.
+ * - 좋아요 증감값은 PostLikeCounter 메모리 버퍼에 모였다가 반영되므로, 프로세스가 비정상 종료되면 반영 전 값이 사라짐
+ * - 좋아요 여부 자체는 post_likes 에 커밋되어 있으므로 likes 를 실제 좋아요 수로 다시 맞춤
+ * - 버퍼에 아직 남아 있는 정상 증감값을 덮어쓰지 않도록 두 번 연속 어긋나 있고 그 사이 version(반영 시 +1)이 그대로인 게시글만 보정
+ *   (계속 좋아요가 들어오는 게시글은 잠잠해진 뒤에 보정됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountReconciler {
+    private static final long BATCH_SIZE = 500L;
+
+    private final PostMapper postMapper;
+
+    // 지난 실행에서 어긋나 있던 게시글 id -> version
+    private final Map<Long, Integer> suspects = new HashMap<>();
+
+    @Scheduled(initialDelayString = "${community.like-count-reconcile.initial-delay-ms:120000}",
+            fixedDelayString = "${community.like-count-reconcile.interval-ms:600000}")
+    public synchronized void reconcile() {
+        Long maxId = postMapper.findMaxId();
+        if (maxId == null) {
+            suspects.clear();
+            return;
+        }
+
+        Map<Long, Integer> nextSuspects = new HashMap<>();
+        int repaired = 0;
+        for (long fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            List<Post> confirmed = new ArrayList<>();
+            for (Post drift : postMapper.findLikeCountDrifts(fromId, fromId + BATCH_SIZE)) {
+                if (Objects.equals(suspects.get(drift.getId()), drift.getVersion())) {
+                    confirmed.add(drift);
+                } else {
+                    nextSuspects.put(drift.getId(), drift.getVersion());
+                }
+            }
+            if (!confirmed.isEmpty()) {
+                repaired += postMapper.repairLikeCounts(confirmed);
+            }
+        }
+        suspects.clear();
+        suspects.putAll(nextSuspects);
+
+        if (repaired > 0) {
+            log.info("posts.likes 보정 완료: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.PostLikeDelta;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.global.common.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 좋아요 수(posts.likes) 쓰기 버퍼.
+ * - 좋아요/취소마다 posts 행을 UPDATE 하면 인기 게시글 한 행에 잠금이 몰리므로,
+ *   게시글별 LongAdder 에 증감값을 모았다가 주기적으로 한 번의 UPDATE 로 반영
+ * - 좋아요 자체의 중복 방지는 post_likes PK(post_id, email) 가 담당하고, 여기는 개수만 다룸
+ * - 아직 반영되지 않은 증감값은 pendingDelta() 로 조회해서 응답에 더해줌
+ * - flush 는 UPDATE 전에 버퍼에서 먼저 차감하고 실패하면 되돌림 (반영 중인 값이 DB 와 버퍼 양쪽에서 세어지지 않게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter {
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    // 이 시간 동안 변화가 없던 게시글은 버퍼에서 내림
+    private static final long IDLE_MILLIS = 60_000L;
+    // 버퍼에서 내린 뒤에도 그 사이 들어온 증감값을 놓치지 않도록 잠깐 더 같이 비워줌
+    private static final long RETIRE_GRACE_MILLIS = 10_000L;
+
+    private final PostMapper postMapper;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    // 게시글별 최대 하나 (이미 있으면 새로 내리지 않음)
+    private final Map<Long, RetiredSlot> retiredSlots = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 증감값을 버퍼에 더함
+     * - 트랜잭션이 롤백되면 반영하지 않음
+     */
+    public void addAfterCommit(Long postId, long delta) {
+        AfterCommit.run(() -> add(postId, delta));
+    }
+
+    public void add(Long postId, long delta) {
+        slots.computeIfAbsent(postId, id -> new Slot()).adder.add(delta);
+    }
+
+    /**
+     * 아직 posts.likes 에 반영되지 않은 증감값
+     */
+    public long pendingDelta(Long postId) {
+        Slot slot = slots.get(postId);
+        RetiredSlot retired = retiredSlots.get(postId);
+        return (slot == null ? 0L : slot.adder.sum()) + (retired == null ? 0L : retired.slot().adder.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${community.like-flush.interval-ms:1000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        Map<Long, List<Drain>> drainsByPostId = new HashMap<>();
+
+        slots.forEach((postId, slot) -> {
+            long sum = slot.adder.sum();
+            if (sum != 0) {
+                drainsByPostId.computeIfAbsent(postId, id -> new ArrayList<>()).add(new Drain(slot.adder, sum));
+                slot.lastActiveAt = now;
+            } else if (now - slot.lastActiveAt > IDLE_MILLIS && !retiredSlots.containsKey(postId)
+                    && slots.remove(postId, slot)) {
+                retiredSlots.put(postId, new RetiredSlot(postId, slot, now));
+            }
+        });
+
+        Iterator<RetiredSlot> it = retiredSlots.values().iterator();
+        while (it.hasNext()) {
+            RetiredSlot retired = it.next();
+            long sum = retired.slot().adder.sum();
+            if (sum != 0) {
+                drainsByPostId.computeIfAbsent(retired.postId(), id -> new ArrayList<>())
+                        .add(new Drain(retired.slot().adder, sum));
+            } else if (now - retired.retiredAt() > RETIRE_GRACE_MILLIS) {
+                it.remove();
+            }
+        }
+
+        List<PostLikeDelta> deltas = new ArrayList<>();
+        drainsByPostId.forEach((postId, drains) -> {
+            long delta = drains.stream().mapToLong(Drain::amount).sum();
+            if (delta != 0) {
+                deltas.add(PostLikeDelta.builder().postId(postId).delta(delta).build());
+            } else {
+                drains.forEach(Drain::apply);
+            }
+        });
+
+        for (int from = 0; from < deltas.size(); from += FLUSH_CHUNK_SIZE) {
+            List<PostLikeDelta> chunk = deltas.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, deltas.size()));
+            // 반영할 만큼만 버퍼에서 먼저 차감 (그 사이 새로 들어온 증감값은 그대로 남음)
+            chunk.forEach(delta -> drainsByPostId.get(delta.getPostId()).forEach(Drain::apply));
+            try {
+                postMapper.applyLikeDeltas(chunk);
+            } catch (RuntimeException e) {
+                // 반영 실패 시 버퍼에 되돌리고 다음 주기에 다시 시도
+                chunk.forEach(delta -> drainsByPostId.get(delta.getPostId()).forEach(Drain::undo));
+                log.warn("좋아요 수 반영 실패, 다음 주기에 재시도합니다. ({}건)", deltas.size() - from, e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class Slot {
+        private final LongAdder adder = new LongAdder();
+        private volatile long lastActiveAt = System.currentTimeMillis();
+    }
+
+    private record RetiredSlot(Long postId, Slot slot, long retiredAt) {
+    }
+
+    private record Drain(LongAdder adder, long amount) {
+        void apply() {
+            adder.add(-amount);
+        }
+
+        void undo() {
+            adder.add(amount);
+        }
+    }
+}
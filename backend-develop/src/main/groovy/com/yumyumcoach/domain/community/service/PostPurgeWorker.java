@@ -0,0 +1,59 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostPurgeMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시(posts.deleted_at)된 게시글의 연관 데이터 정리.
+ * - 게시글 삭제 요청은 표시만 하고 바로 응답하고, 실제 삭제는 여기서 나눠서 처리
+ * - 트랜잭션 없이 DELETE ... LIMIT 을 반복하므로 한 번에 잡는 잠금은 배치 크기만큼으로 제한됨
+ * - 중간에 실패해도 게시글 행은 남아 있으므로 다음 주기에 이어서 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPurgeWorker {
+    private static final int BATCH_SIZE = 500;
+    private static final int POSTS_PER_RUN = 100;
+
+    private final PostPurgeMapper postPurgeMapper;
+    private final TimelineService timelineService;
+
+    @Scheduled(fixedDelayString = "${community.purge.interval-ms:5000}")
+    public void purgeDeletedPosts() {
+        List<Long> postIds = postPurgeMapper.findDeletedPostIds(POSTS_PER_RUN);
+        for (Long postId : postIds) {
+            try {
+                purge(postId);
+            } catch (RuntimeException e) {
+                log.warn("게시글 정리 실패, 다음 주기에 재시도합니다. (postId={})", postId, e);
+            }
+        }
+    }
+
+    void purge(Long postId) {
+        deleteInBatches(() -> postPurgeMapper.deleteImages(postId, BATCH_SIZE));
+        deleteInBatches(() -> postPurgeMapper.deleteComments(postId, BATCH_SIZE));
+        deleteInBatches(() -> postPurgeMapper.deleteLikes(postId, BATCH_SIZE));
+        deleteInBatches(() -> postPurgeMapper.deleteTimelineEntries(postId, BATCH_SIZE));
+        postPurgeMapper.deletePost(postId);
+        // 삭제 표시한 인스턴스가 아니면 버퍼에 남아 있을 수 있음
+        timelineService.onPostDeleted(postId);
+    }
+
+    /**
+     * 지운 행 수가 배치 크기보다 작아질 때까지 반복
+     */
+    private static void deleteInBatches(IntSupplier batch) {
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+        } while (deleted >= BATCH_SIZE);
+    }
+}
@@ -5,13 +5,18 @@ import com.yumyumcoach.domain.community.dto.GetPostsResponse;
 import com.yumyumcoach.domain.community.dto.PostRequest;
 import com.yumyumcoach.domain.community.dto.PostResponse;
 import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostDetailRow;
 import com.yumyumcoach.domain.community.entity.PostImage;
 import com.yumyumcoach.domain.community.entity.PostLike;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostImageMapper;
 import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.model.PostSort;
+import com.yumyumcoach.domain.user.dto.AuthorCard;
+import com.yumyumcoach.domain.user.service.AuthorCardCache;
 import com.yumyumcoach.global.common.CdnUrlResolver;
+import com.yumyumcoach.global.common.PageCursor;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +24,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Community 게시글 관련 서비스.
@@ -33,81 +46,156 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostMapper postMapper;
     private final PostImageMapper postImageMapper;
     private final PostLikeMapper postLikeMapper;
     private final PostCommentMapper postCommentMapper;
     private final CdnUrlResolver cdnUrlResolver;
+    private final PostCountCache postCountCache;
+    private final PostLikeCounter postLikeCounter;
+    private final FeedPageCache feedPageCache;
+    private final TimelineService timelineService;
+    private final LikedPostIndex likedPostIndex;
+    private final AuthorCardCache authorCardCache;
 
     /**
      * 전체 게시글 목록(피드) 조회
      * - GET /api/posts
+     * - paging=CURSOR 또는 cursor 가 있으면 커서 페이징, 아니면 기존 page/size 페이징
+     * - 검색어 없는 앞쪽 페이지는 FeedPageCache 에서 꺼내고 isLikedByMe 만 다시 채움
      */
     public GetPostsResponse getPosts(GetPostsRequest request, String loginUserEmail) {
-        // TODO:
+        if (request.isCursorMode()) {
+            return getPostsByCursor(request, loginUserEmail);
+        }
+
         // 1) request.getPage(), request.getSize()를 사용해 페이징 조회
-        int page = request.getPage();
-        int size = request.getSize();
-        int offset = (page - 1) * size;
+        int page = Math.max(request.getPage(), 1);
+        int size = normalizeSize(request.getSize());
+
+        String keyword = normalizeKeyword(request.getKeyword());
+        PostSort sort = PostSort.resolve(request.getSort(), keyword);
+
+        String cacheKey = keyword == null && page <= FeedPageCache.MAX_CACHED_PAGES
+                ? FeedPageCache.offsetKey(sort, page, size)
+                : null;
+        FeedPageCache.Page cached = cacheKey == null ? null : feedPageCache.get(cacheKey);
+        if (cached == null) {
+            long generation = feedPageCache.generation();
+            cached = loadPage(page, size, keyword, sort);
+            if (cacheKey != null) {
+                feedPageCache.put(cacheKey, cached, generation);
+            }
+        }
 
-        String keyword = request.getKeyword();
-        String sort = request.getSort();
+        return GetPostsResponse.builder()
+                .page(page)
+                .size(size)
+                .totalCount(cached.totalCount())
+                .posts(withAuthorAndLikedByMe(cached.posts(), loginUserEmail))
+                .build();
+    }
 
-        // 2) 게시글 목록 조회
-        List<Post> posts = postMapper.findPosts(offset, size, keyword, sort);
+    /**
+     * OFFSET 모드 한 페이지 조회 (사용자별 값 제외)
+     */
+    private FeedPageCache.Page loadPage(int page, int size, String keyword, PostSort sort) {
+        int offset = (page - 1) * size;
+
+        // 게시글 목록 조회 (keyword 가 있으면 FULLTEXT 검색)
+        List<Post> posts = postMapper.findPosts(offset, size, keyword, sort.name());
         if (posts.isEmpty()) {
-            return GetPostsResponse.builder()
-                    .page(page)
-                    .size(size)
-                    .totalCount(0L)
-                    .posts(Collections.emptyList())
-                    .build();
+            return FeedPageCache.Page.of(Collections.emptyList(), 0L, false, null);
         }
 
-        // 3) Post -> PostResponse 매핑
-        List<PostResponse> postResponses = posts.stream()
-                .map(post -> {
-                    Long postId = post.getId();
-                    // 이미지 목록
-                    List<PostImage> postImages = postImageMapper.findByPostId(postId);
-                    List<String> imageUrls = postImages.stream()
-                            .map(PostImage::getImageUrl)
-                            .map(cdnUrlResolver::resolve)
-                            .toList();
-                    // 댓글 개수
-                    long commentCount = postCommentMapper.countByPostId(postId);
-                    // 좋아요 개수 (posts.likes)
-                    int likeCount = post.getLikes();
-                    // 내가 좋아요 눌렀는지 여부
-                    boolean isLikedByMe = false;
-                    if (loginUserEmail != null) {
-                        isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-                    }
-
-                    return PostResponse.builder()
-                            .postId(postId)
-                            // User 도메인 연동 전 : 일단 author 관련은 null로 세팅
-                            .authorId(null)
-                            .authorUsername(null)
-                            .authorProfileImageUrl(null)
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .images(imageUrls)
-                            .likeCount(likeCount)
-                            .commentCount((int) commentCount)
-                            .isLikedByMe(isLikedByMe)
-                            .createdAt(post.getCreatedAt())
-                            .updatedAt(null)
-                            .build();
-                }).toList();
+        // Post -> PostResponse 매핑 (이미지는 게시글 수와 무관하게 일괄 조회)
+        List<PostResponse> postResponses = toPostResponses(posts);
 
-        // 4) 전체 개수 조회
+        // 전체 개수 조회
         long totalCount = postMapper.countPosts(keyword);
+        return FeedPageCache.Page.of(postResponses, totalCount, (long) offset + posts.size() < totalCount, null);
+    }
+
+    /**
+     * 커서(keyset) 방식 피드 조회
+     * - (정렬 키, id) 기준으로 커서 다음 게시글부터 size + 1 개를 조회해서 다음 페이지 존재 여부 판단
+     *   (LATEST : created_at, RELEVANCE : 검색 관련도 점수, POPULAR : hot_score)
+     * - OFFSET 을 쓰지 않으므로 페이지가 깊어져도 조회 비용이 일정함
+     * - 전체 개수는 PostCountCache 의 근사값 (페이지마다 COUNT 하지 않음)
+     * - 검색어 없는 첫 페이지는 FeedPageCache 사용
+     */
+    private GetPostsResponse getPostsByCursor(GetPostsRequest request, String loginUserEmail) {
+        int size = normalizeSize(request.getSize());
+        String keyword = normalizeKeyword(request.getKeyword());
+        PostSort sort = PostSort.resolve(request.getSort(), keyword);
+
+        PageCursor cursor = request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : PageCursor.decode(request.getCursor());
+
+        String cacheKey = keyword == null && cursor == null ? FeedPageCache.firstCursorKey(sort, size) : null;
+        FeedPageCache.Page cached = cacheKey == null ? null : feedPageCache.get(cacheKey);
+        if (cached == null) {
+            long generation = feedPageCache.generation();
+            cached = loadPageByCursor(cursor, size, keyword, sort);
+            if (cacheKey != null) {
+                feedPageCache.put(cacheKey, cached, generation);
+            }
+        }
+
         return GetPostsResponse.builder()
-                .page(page)
                 .size(size)
-                .totalCount(totalCount)
-                .posts(postResponses)
+                .totalCount(postCountCache.get(keyword))
+                .nextCursor(cached.nextCursor())
+                .hasNext(cached.hasNext())
+                .posts(withAuthorAndLikedByMe(cached.posts(), loginUserEmail))
+                .build();
+    }
+
+    /**
+     * CURSOR 모드 한 페이지 조회 (사용자별 값 제외)
+     */
+    private FeedPageCache.Page loadPageByCursor(PageCursor cursor, int size, String keyword, PostSort sort) {
+        boolean byScore = sort.isScoreOrdered();
+        List<Post> rows = postMapper.findPostsByCursor(
+                cursor == null || byScore ? null : cursor.keyAsDateTime(),
+                cursor == null || !byScore ? null : cursor.keyAsDecimal(),
+                cursor == null ? null : cursor.id(),
+                size + 1,
+                keyword,
+                sort.name());
+
+        boolean hasNext = rows.size() > size;
+        List<Post> posts = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = byScore
+                    ? PageCursor.of(last.getScore(), last.getId()).encode()
+                    : PageCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return FeedPageCache.Page.of(
+                posts.isEmpty() ? Collections.emptyList() : toPostResponses(posts), 0L, hasNext, nextCursor);
+    }
+
+    /**
+     * 팔로잉 타임라인 조회
+     * - GET /api/posts/timeline
+     * - 내가 팔로우하는 사용자(+ 나)의 게시글을 최신순으로 커서 페이징
+     */
+    public GetPostsResponse getTimeline(GetPostsRequest request, String loginUserEmail) {
+        TimelineService.TimelinePage page = timelineService.getTimeline(request, loginUserEmail);
+        return GetPostsResponse.builder()
+                .size(page.size())
+                .nextCursor(page.nextCursor())
+                .hasNext(page.hasNext())
+                .posts(page.posts().isEmpty()
+                        ? Collections.emptyList()
+                        : withAuthorAndLikedByMe(toPostResponses(page.posts()), loginUserEmail))
                 .build();
     }
 
@@ -116,44 +204,56 @@ public class PostService {
      * - GET /api/posts/{postId}
      */
     public PostResponse getPost(Long postId, String loginUserEmail) {
-        // 1) 게시글 조회
-        Post post = postMapper.findById(postId);
-        if (post == null) {
+        // 1) 게시글 + 이미지 조인 조회 (이미지 수만큼 행, 이미지가 없으면 image_url 이 null 인 1행)
+        List<PostDetailRow> rows = postMapper.findDetailById(postId);
+        if (rows.isEmpty()) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
-
-        // 2) 이미지 목록 조회
-        List<PostImage> postImages = postImageMapper.findByPostId(postId);
-        List<String> imageUrls = postImages.stream()
-                .map(PostImage::getImageUrl)
+        PostDetailRow post = rows.get(0);
+        List<String> imageCdnUrls = rows.stream()
+                .map(PostDetailRow::getImageUrl)
+                .filter(Objects::nonNull)
                 .map(cdnUrlResolver::resolve)
                 .toList();
 
-        // 3) 댓글 개수 조회
-        long commentCount = postCommentMapper.countByPostId(postId);
-
-        // 4) 좋아요 개수 (posts.likes)
-        int likeCount = post.getLikes();
-
-        // 5) 현재 유저가 좋아요 눌렀는지 여부
-        boolean isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
+        // 2) 좋아요 수 / 좋아요 여부 / 작성자 정보는 메모리에서
+        int likeCount = likeCountOf(postId, post.getLikes());
+        boolean isLikedByMe = loginUserEmail != null && likedPostIndex.isLiked(loginUserEmail, postId);
+        AuthorCard author = authorCardCache.get(post.getAuthorEmail());
 
         return PostResponse.builder()
-                .postId(post.getId())
-                .authorId(null)                 // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .postId(postId)
+                .authorEmail(post.getAuthorEmail())
+                .authorId(author == null ? null : author.getUserId())
+                .authorUsername(author == null ? null : author.getUsername())
+                .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
                 .title(post.getTitle())
                 .content(post.getContent())
-                .images(imageUrls)
+                .images(imageCdnUrls)
                 .likeCount(likeCount)
-                .commentCount((int) commentCount)
+                .commentCount(post.getCommentCount())
                 .isLikedByMe(isLikedByMe)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(null)
+                .etag(etagOf(postId, post.getVersion(), likeCount, isLikedByMe, author))
                 .build();
     }
 
+    /**
+     * 게시글 상세 ETag 만 계산 (If-None-Match 비교용)
+     * - posts 행의 id, likes, version 만 읽고 이미지/본문은 조회하지 않음
+     */
+    public String getPostETag(Long postId, String loginUserEmail) {
+        Post post = postMapper.findVersionById(postId);
+        if (post == null) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        int likeCount = likeCountOf(post);
+        boolean isLikedByMe = loginUserEmail != null && likedPostIndex.isLiked(loginUserEmail, postId);
+        return etagOf(postId, post.getVersion(), likeCount, isLikedByMe, authorCardCache.get(post.getAuthorEmail()));
+    }
+
     /**
      * 새 게시글 작성
      * - POST /api/posts
@@ -173,28 +273,36 @@ public class PostService {
         postMapper.insert(post); // useGeneratedKeys="true" 로 인해 post.id 세팅됨
         Long postId = post.getId();
 
-        // 3) 이미지가 있다면 post_images에 INSERT
+        // 3) 이미지가 있다면 post_images에 한 번에 INSERT
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
+        if (!images.isEmpty()) {
+            List<PostImage> postImages = new ArrayList<>(images.size());
+            for (int i = 0; i < images.size(); i++) {
+                postImages.add(PostImage.builder()
+                        .postId(postId)
+                        .imageUrl(images.get(i))
+                        .orderIndex(i + 1)
+                        .build());
+            }
+            postImageMapper.insertBatch(postImages);
         }
 
-        // 4) 응답용은 objectKey -> CloudFront URL로 변환
+        // 4) 팔로워 타임라인에 fan-out, 피드 캐시 무효화 (새 글이 앞쪽 페이지에 끼어듦)
+        timelineService.fanOut(post);
+        feedPageCache.evictAllAfterCommit();
+
+        // 5) 응답용은 objectKey -> CloudFront URL로 변환
         List<String> imageCdnUrls = images.stream()
                 .map(cdnUrlResolver::resolve)
                 .toList();
 
+        AuthorCard author = authorCardCache.get(loginUserEmail);
         return PostResponse.builder()
                 .postId(postId)
-                .authorId(null)               // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .authorEmail(loginUserEmail)
+                .authorId(author == null ? null : author.getUserId())
+                .authorUsername(author == null ? null : author.getUsername())
+                .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .images(imageCdnUrls)
@@ -232,39 +340,34 @@ public class PostService {
                 .build();
         postMapper.update(post);
 
-        // 3) 이미지 -> 기존 이미지 삭제 후 새로 저장
-        postImageMapper.deleteByPostId(postId);
+        // 3) 이미지 -> 기존 목록과 비교해서 바뀐 행만 반영
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
-        }
+        syncImages(postId, images);
+
+        feedPageCache.evictPostAfterCommit(postId);
 
         // 4) 댓글 수, 좋아요 수, isLikedByMe 다시 조회
-        long commentCount = postCommentMapper.countByPostId(postId);
-        int likeCount = existing.getLikes();
-        boolean isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
+        int commentCount = existing.getCommentCount();
+        int likeCount = likeCountOf(existing);
+        boolean isLikedByMe = likedPostIndex.isLiked(loginUserEmail, postId);
 
         // 5) 응답용은 objectKey -> CloudFront URL로 변환
         List<String> imageCdnUrls = images.stream()
                 .map(cdnUrlResolver::resolve)
                 .toList();
 
+        AuthorCard author = authorCardCache.get(existing.getAuthorEmail());
         return PostResponse.builder()
                 .postId(postId)
-                .authorId(null)
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .authorEmail(existing.getAuthorEmail())
+                .authorId(author == null ? null : author.getUserId())
+                .authorUsername(author == null ? null : author.getUsername())
+                .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
                 .title(request.getTitle())
                 .content(request.getContent())
                 .images(imageCdnUrls)
                 .likeCount(likeCount)
-                .commentCount((int) commentCount)
+                .commentCount(commentCount)
                 .isLikedByMe(isLikedByMe)
                 .createdAt(existing.getCreatedAt())
                 .updatedAt(null)
@@ -288,13 +391,10 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_FORBIDDEN);
         }
 
-        // 1) 연관 데이터 삭제
-        postImageMapper.deleteByPostId(postId);
-        postCommentMapper.deleteByPostId(postId);
-        // TODO: post_likes 전체 삭제용 메서드(PostLikeMapper.deleteByPostId) 추가해서 호출하면 더 깔끔함
-
-        // 2) 게시글 삭제
-        postMapper.delete(postId);
+        // 삭제 표시만 하고 바로 응답 (이미지/댓글/좋아요는 PostPurgeWorker 가 나눠서 삭제)
+        postMapper.markDeleted(postId);
+        timelineService.onPostDeleted(postId);
+        feedPageCache.evictAllAfterCommit();
     }
 
     /**
@@ -309,21 +409,20 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
 
-        // 2) 이미 좋아요 눌렀는지 확인
-        boolean alreadyLiked = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-        if (alreadyLiked) {
-            throw new BusinessException(ErrorCode.LIKE_ALREADY_EXISTS, "좋아요를 누를 게시글을 찾을 수 없습니다.");
-        }
-
-        // 3) 좋아요 INSERT
-        postLikeMapper.insert(PostLike.builder()
+        // 2) 좋아요 INSERT (post_likes PK 로 중복 방지, 이미 있으면 0행)
+        int inserted = postLikeMapper.insertIgnore(PostLike.builder()
                 .postId(postId)
                 .authorEmail(loginUserEmail)
                 .createdAt(LocalDateTime.now())
                 .build());
+        if (inserted == 0) {
+            throw new BusinessException(ErrorCode.LIKE_ALREADY_EXISTS);
+        }
 
-        // 3) posts.likes +1
-        postMapper.increaseLikes(postId);
+        // 3) posts.likes +1 은 커밋 후 버퍼에 모았다가 일괄 반영
+        postLikeCounter.addAfterCommit(postId, 1);
+        likedPostIndex.addAfterCommit(loginUserEmail, postId);
+        feedPageCache.evictPostAfterCommit(postId);
     }
 
     /**
@@ -338,16 +437,162 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND, "좋아요를 취소할 게시글을 찾을 수 없습니다.");
         }
 
-        // 2) 좋아요가 존재하는지 확인
-        boolean alreadyLiked = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-        if (!alreadyLiked) {
+        // 2) post_likes 에서 삭제 (삭제된 행이 없으면 좋아요가 없던 것)
+        int deleted = postLikeMapper.deleteByPostIdAndAuthorEmail(postId, loginUserEmail);
+        if (deleted == 0) {
             throw new BusinessException(ErrorCode.LIKE_NOT_FOUND);
         }
 
-        // 3) post_likes 에서 삭제
-        postLikeMapper.deleteByPostIdAndAuthorEmail(postId, loginUserEmail);
+        // 3) posts.likes -1 은 커밋 후 버퍼에 모았다가 일괄 반영
+        postLikeCounter.addAfterCommit(postId, -1);
+        likedPostIndex.removeAfterCommit(loginUserEmail, postId);
+        feedPageCache.evictPostAfterCommit(postId);
+    }
+
+    /**
+     * 게시글 이미지 목록을 새 목록(images 순서 = order_index)과 같게 맞춤
+     * - 같은 URL 의 기존 행은 그대로 두고, 순서만 바뀐 행은 order_index 만 UPDATE
+     * - 빠진 행은 DELETE, 새 URL 은 한 번에 INSERT
+     * - 목록이 같으면 쓰기 없음
+     */
+    private void syncImages(Long postId, List<String> images) {
+        List<PostImage> existing = postImageMapper.findByPostId(postId);
 
-        // 4) posts.likes -1
-        postMapper.decreaseLikes(postId);
+        // URL -> 기존 행 (같은 URL 이 여러 장이면 순서대로 매칭)
+        Map<String, Deque<PostImage>> existingByUrl = new HashMap<>();
+        for (PostImage image : existing) {
+            existingByUrl.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<PostImage> toInsert = new ArrayList<>();
+        List<PostImage> toReorder = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            int orderIndex = i + 1;
+            Deque<PostImage> candidates = existingByUrl.get(images.get(i));
+            PostImage matched = candidates == null ? null : candidates.poll();
+            if (matched == null) {
+                toInsert.add(PostImage.builder()
+                        .postId(postId)
+                        .imageUrl(images.get(i))
+                        .orderIndex(orderIndex)
+                        .build());
+            } else if (matched.getOrderIndex() != orderIndex) {
+                toReorder.add(PostImage.builder()
+                        .id(matched.getId())
+                        .orderIndex(orderIndex)
+                        .build());
+            }
+        }
+
+        List<Long> toDelete = existingByUrl.values().stream()
+                .flatMap(Deque::stream)
+                .map(PostImage::getId)
+                .toList();
+
+        // 삭제 -> 순서 변경 -> 추가 순서로 해야 (post_id, order_index) 유니크 키가 충돌하지 않음
+        if (!toDelete.isEmpty()) {
+            postImageMapper.deleteByIds(toDelete);
+        }
+        if (!toReorder.isEmpty()) {
+            postImageMapper.updateOrderIndexesNegated(toReorder);
+            postImageMapper.flipOrderIndexes(postId);
+        }
+        if (!toInsert.isEmpty()) {
+            postImageMapper.insertBatch(toInsert);
+        }
+    }
+
+    private int normalizeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private String normalizeKeyword(String keyword) {
+        return keyword == null || keyword.isBlank() ? null : keyword.trim();
+    }
+
+    private int likeCountOf(Post post) {
+        return likeCountOf(post.getId(), post.getLikes());
+    }
+
+    private int likeCountOf(Long postId, int likes) {
+        return (int) Math.max(likes + postLikeCounter.pendingDelta(postId), 0);
+    }
+
+    /**
+     * 게시글 상세 응답의 weak ETag
+     * - version : 제목/내용/이미지 수정, 좋아요 수 반영, 댓글 수 변경 시 +1
+     * - 아직 반영 안 된 좋아요 증감값, 로그인 사용자의 좋아요 여부, 작성자 정보도 응답에 들어가므로 함께 포함
+     */
+    private String etagOf(Long postId, int version, int likeCount, boolean isLikedByMe, AuthorCard author) {
+        int authorHash = author == null
+                ? 0
+                : Objects.hash(author.getUserId(), author.getUsername(), author.getProfileImageUrl());
+        return "W/\"" + postId + "-" + version + "-" + likeCount + "-" + (isLikedByMe ? 1 : 0)
+                + "-" + Integer.toHexString(authorHash) + "\"";
+    }
+
+    /**
+     * Post 목록 -> PostResponse 목록 변환 (작성자 정보 / isLikedByMe 는 withAuthorAndLikedByMe 로 채움)
+     * - 이미지를 게시글마다 조회하지 않고 IN 쿼리 한 번으로 묶어서 조회
+     * - 댓글 개수는 게시글 행의 comment_count 를 그대로 사용
+     * - 게시글 순서는 입력 순서를 그대로 유지
+     */
+    private List<PostResponse> toPostResponses(List<Post> posts) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        // 이미지 목록 (order_index 순으로 조회된 순서 유지)
+        Map<Long, List<String>> imageUrlsByPostId = postImageMapper.findByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostImage::getPostId,
+                        Collectors.mapping(image -> cdnUrlResolver.resolve(image.getImageUrl()), Collectors.toList())));
+
+        return posts.stream()
+                .map(post -> PostResponse.builder()
+                        .postId(post.getId())
+                        .authorEmail(post.getAuthorEmail())
+                        .title(post.getTitle())
+                        .content(post.getContent())
+                        .images(imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList()))
+                        // 좋아요 개수 (posts.likes + 아직 반영 안 된 증감값)
+                        .likeCount(likeCountOf(post))
+                        // 댓글 개수 (posts.comment_count)
+                        .commentCount(post.getCommentCount())
+                        .isLikedByMe(false)
+                        .createdAt(post.getCreatedAt())
+                        .updatedAt(null)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 작성자 정보(AuthorCardCache)와 로그인 사용자의 좋아요 여부(LikedPostIndex)를 덮어씀
+     * - 피드 캐시에 들어 있는 응답에도 조회 시점의 작성자 정보가 반영됨
+     */
+    private List<PostResponse> withAuthorAndLikedByMe(List<PostResponse> postResponses, String loginUserEmail) {
+        if (postResponses.isEmpty()) {
+            return postResponses;
+        }
+
+        Map<String, AuthorCard> authors = authorCardCache.getAll(postResponses.stream()
+                .map(PostResponse::getAuthorEmail)
+                .toList());
+        Set<Long> likedPostIds = loginUserEmail == null
+                ? Collections.emptySet()
+                : likedPostIndex.likedAmong(loginUserEmail, postResponses.stream()
+                        .map(PostResponse::getPostId)
+                        .toList());
+
+        return postResponses.stream()
+                .map(response -> {
+                    AuthorCard author = authors.get(response.getAuthorEmail());
+                    return response.toBuilder()
+                            .authorId(author == null ? null : author.getUserId())
+                            .authorUsername(author == null ? null : author.getUsername())
+                            .authorProfileImageUrl(author == null ? null : author.getProfileImageUrl())
+                            .isLikedByMe(likedPostIds.contains(response.getPostId()))
+                            .build();
+                })
+                .toList();
     }
 }
@@ -0,0 +1,190 @@
+package com.yumyumcoach.domain.community.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팔로잉 타임라인 앞부분(최근 게시글 ID)을 사용자별 고정 크기 버퍼로 보관.
+ * - 처음 조회할 때 timeline_entries 에서 채우고, 이후에는 fan-out 시점에 앞쪽에 끼워 넣음
+ * - 버퍼 범위를 넘어가는 페이지는 null 을 돌려주고 호출 쪽에서 DB 로 조회
+ * - DB 를 읽는 동안 들어온 push / removePost 는 적재 중인 버퍼에 기록해 뒀다가 DB 결과와 합침
+ *   (그 사이 evict 됐으면 startLoad 때 받은 generation 이 달라져서 적재하지 않음)
+ */
+@Component
+public class TimelineBuffer {
+    public static final int CAPACITY = 200;
+    private static final int MAX_OWNERS = 5_000;
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    /**
+     * 적재 시작 : DB 를 읽기 전에 호출해서 그 뒤로 들어오는 push 를 놓치지 않게 함
+     * @return load 에 넘길 generation
+     */
+    public long startLoad(String ownerEmail) {
+        if (rings.size() >= MAX_OWNERS) {
+            rings.clear();
+        }
+        Ring ring = new Ring(generations.incrementAndGet());
+        rings.put(ownerEmail, ring);
+        return ring.generation;
+    }
+
+    /**
+     * DB 에서 읽은 최근 게시글 ID(내림차순)로 버퍼 적재
+     * - startLoad 이후 evict 되거나 다른 적재가 시작됐으면 버림
+     */
+    public void load(String ownerEmail, long generation, List<Long> latestPostIds) {
+        Ring ring = rings.get(ownerEmail);
+        if (ring != null && ring.generation == generation) {
+            ring.fill(latestPostIds);
+        }
+    }
+
+    public boolean isLoaded(String ownerEmail) {
+        Ring ring = rings.get(ownerEmail);
+        return ring != null && ring.isLoaded();
+    }
+
+    /**
+     * beforeId 보다 작은 게시글 ID 를 최신순으로 최대 limit 개
+     * - 버퍼만으로 답할 수 없으면 null
+     */
+    public List<Long> page(String ownerEmail, Long beforeId, int limit) {
+        Ring ring = rings.get(ownerEmail);
+        return ring == null ? null : ring.page(beforeId == null ? Long.MAX_VALUE : beforeId, limit);
+    }
+
+    /**
+     * 이미 버퍼가 있는(적재 중 포함) 사용자들에게만 새 게시글 ID 추가
+     */
+    public void push(Collection<String> ownerEmails, Long postId) {
+        for (String ownerEmail : ownerEmails) {
+            Ring ring = rings.get(ownerEmail);
+            if (ring != null) {
+                ring.insert(postId);
+            }
+        }
+    }
+
+    public void removePost(Long postId) {
+        rings.values().forEach(ring -> ring.remove(postId));
+    }
+
+    public void evict(String ownerEmail) {
+        rings.remove(ownerEmail);
+    }
+
+    /**
+     * 게시글 ID 내림차순 고정 크기 배열
+     * - complete : 사용자의 타임라인 전체가 들어 있는지 (잘려 나간 적 없음)
+     * - 적재 전(loaded = false)에는 조회에 답하지 않고, 그 사이 추가 / 삭제된 게시글만 기록
+     */
+    private static final class Ring {
+        private final long generation;
+        private final long[] ids = new long[CAPACITY];
+        private int size;
+        private boolean complete;
+        private boolean loaded;
+        private Set<Long> removedWhileLoading = new HashSet<>();
+
+        private Ring(long generation) {
+            this.generation = generation;
+        }
+
+        synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        synchronized void fill(List<Long> latestPostIds) {
+            TreeSet<Long> merged = new TreeSet<>(Collections.reverseOrder());
+            merged.addAll(latestPostIds);
+            for (int i = 0; i < size; i++) {
+                merged.add(ids[i]);
+            }
+            merged.removeAll(removedWhileLoading);
+
+            size = 0;
+            for (Long postId : merged) {
+                if (size == CAPACITY) {
+                    break;
+                }
+                ids[size++] = postId;
+            }
+            complete = latestPostIds.size() < CAPACITY && merged.size() <= CAPACITY;
+            loaded = true;
+            removedWhileLoading = null;
+        }
+
+        synchronized List<Long> page(long beforeId, int limit) {
+            if (!loaded) {
+                return null;
+            }
+            int from = indexOfFirstBelow(beforeId);
+            int available = size - from;
+            if (available < limit && !complete) {
+                return null;
+            }
+            List<Long> result = new ArrayList<>(Math.min(available, limit));
+            for (int i = from; i < size && result.size() < limit; i++) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+
+        synchronized void insert(long postId) {
+            int at = indexOfFirstBelow(postId);
+            if (at > 0 && ids[at - 1] == postId) {
+                return;
+            }
+            if (at == CAPACITY) {
+                complete = false;
+                return;
+            }
+            if (size == CAPACITY) {
+                size--;
+                complete = false;
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = postId;
+            size++;
+        }
+
+        synchronized void remove(long postId) {
+            if (!loaded) {
+                removedWhileLoading.add(postId);
+            }
+            int at = indexOfFirstBelow(postId + 1);
+            if (at < size && ids[at] == postId) {
+                System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+                size--;
+            }
+        }
+
+        // 내림차순 배열에서 value 보다 작은 첫 위치
+        private int indexOfFirstBelow(long value) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ids[mid] < value) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+}
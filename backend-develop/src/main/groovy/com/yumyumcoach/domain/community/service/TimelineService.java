@@ -0,0 +1,216 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.GetPostsRequest;
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.mapper.TimelineMapper;
+import com.yumyumcoach.domain.user.mapper.FollowMapper;
+import com.yumyumcoach.global.common.AfterCommit;
+import com.yumyumcoach.global.common.PageCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 타임라인 서비스.
+ * - 게시글 작성 시 팔로워들의 timeline_entries 에 게시글 ID 를 미리 넣어 둠 (fan-out-on-write)
+ * - 조회는 내 timeline_entries(또는 TimelineBuffer)에서 페이지 크기만큼만 읽고 게시글을 IN 쿼리로 채움
+ * - 팔로워가 많은 작성자(pull 작성자)는 fan-out 하지 않고, 조회 시점에 그 작성자의 게시글을 직접 읽어 합침 (fan-out-on-read)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TimelineService {
+    private static final int MAX_PAGE_SIZE = 100;
+    // 팔로우 시 내 타임라인에 채워 넣을 상대방 최근 게시글 수
+    private static final int FOLLOW_BACKFILL_SIZE = 50;
+
+    private final TimelineMapper timelineMapper;
+    private final PostMapper postMapper;
+    private final FollowMapper followMapper;
+    private final TimelineBuffer timelineBuffer;
+    private final int fanOutMaxFollowers;
+
+    private volatile Set<String> pullAuthors = Collections.emptySet();
+
+    public TimelineService(TimelineMapper timelineMapper,
+                           PostMapper postMapper,
+                           FollowMapper followMapper,
+                           TimelineBuffer timelineBuffer,
+                           @Value("${community.timeline.fan-out-max-followers:1000}") int fanOutMaxFollowers) {
+        this.timelineMapper = timelineMapper;
+        this.postMapper = postMapper;
+        this.followMapper = followMapper;
+        this.timelineBuffer = timelineBuffer;
+        this.fanOutMaxFollowers = fanOutMaxFollowers;
+    }
+
+    /**
+     * 새 게시글 fan-out (PostService.createPost 트랜잭션 안에서 호출)
+     * - 팔로워가 fanOutMaxFollowers 명을 넘으면 pull 작성자로 등록하고 fan-out 생략
+     */
+    @Transactional
+    public void fanOut(Post post) {
+        List<String> followers = followMapper.findFollowerEmails(post.getAuthorEmail(), fanOutMaxFollowers + 1);
+
+        if (followers.size() > fanOutMaxFollowers) {
+            addPullAuthor(post.getAuthorEmail());
+            followers = List.of();
+        }
+
+        List<String> owners = new ArrayList<>(followers);
+        owners.add(post.getAuthorEmail()); // 내 글은 내 타임라인에도
+        timelineMapper.insertEntries(post.getId(), post.getAuthorEmail(), post.getCreatedAt(), owners);
+
+        AfterCommit.run(() -> timelineBuffer.push(owners, post.getId()));
+    }
+
+    /**
+     * 팔로우 시 상대방 최근 게시글을 내 타임라인에 채움
+     */
+    @Transactional
+    public void onFollow(String followerEmail, String followeeEmail) {
+        timelineMapper.insertRecentPostsOf(followerEmail, followeeEmail, FOLLOW_BACKFILL_SIZE);
+        AfterCommit.run(() -> timelineBuffer.evict(followerEmail));
+    }
+
+    /**
+     * 언팔로우 시 상대방 게시글을 내 타임라인에서 제거
+     */
+    @Transactional
+    public void onUnfollow(String followerEmail, String followeeEmail) {
+        timelineMapper.deleteByOwnerAndAuthor(followerEmail, followeeEmail);
+        AfterCommit.run(() -> timelineBuffer.evict(followerEmail));
+    }
+
+    /**
+     * 게시글 삭제 시 버퍼에서 제거
+     * - 게시글은 삭제 표시만 되고 timeline_entries 행은 PostPurgeWorker 가 나중에 지움 (조회 시에는 deleted_at 으로 걸러짐)
+     */
+    public void onPostDeleted(Long postId) {
+        AfterCommit.run(() -> timelineBuffer.removePost(postId));
+    }
+
+    /**
+     * 탈퇴한 작성자의 게시글을 한꺼번에 삭제 표시했을 때
+     */
+    public void onPostsDeleted(List<Long> postIds) {
+        AfterCommit.run(() -> postIds.forEach(timelineBuffer::removePost));
+    }
+
+    /**
+     * 팔로잉 타임라인 조회
+     * - GET /api/posts/timeline
+     * - 정렬은 id 내림차순, 커서는 이 페이지에서 읽은 마지막 ID (삭제돼서 빠진 글이어도 그 다음부터 이어 읽음)
+     */
+    public TimelinePage getTimeline(GetPostsRequest request, String loginUserEmail) {
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+        Long beforeId = request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : PageCursor.decode(request.getCursor()).id();
+
+        // 1) fan-out 된 게시글 ID
+        List<Long> ids = findFanOutPostIds(loginUserEmail, beforeId, size + 1);
+
+        // 2) 내가 팔로우하는 pull 작성자의 게시글 ID 합치기
+        Set<String> pullAuthorsSnapshot = pullAuthors;
+        if (!pullAuthorsSnapshot.isEmpty()) {
+            List<String> followedPullAuthors =
+                    followMapper.findFolloweeEmailsIn(loginUserEmail, new ArrayList<>(pullAuthorsSnapshot));
+            if (!followedPullAuthors.isEmpty()) {
+                TreeSet<Long> merged = new TreeSet<>(Collections.reverseOrder());
+                merged.addAll(ids);
+                merged.addAll(postMapper.findIdsByAuthors(followedPullAuthors, beforeId, size + 1));
+                ids = merged.stream().limit(size + 1L).toList();
+            }
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        // 3) 게시글 조회 (ID 순서 유지, 그 사이 삭제된 글은 제외)
+        Map<Long, Post> postsById = pageIds.isEmpty()
+                ? Collections.emptyMap()
+                : postMapper.findByIds(pageIds).stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasNext ? PageCursor.ofId(pageIds.get(pageIds.size() - 1)).encode() : null;
+        return new TimelinePage(size, posts, hasNext, nextCursor);
+    }
+
+    private List<Long> findFanOutPostIds(String ownerEmail, Long beforeId, int limit) {
+        List<Long> buffered = timelineBuffer.page(ownerEmail, beforeId, limit);
+        if (buffered != null) {
+            return buffered;
+        }
+
+        // 첫 페이지인데 버퍼로 답할 수 없으면 (처음 조회, 삭제로 버퍼가 모자람) 다시 적재
+        if (beforeId == null) {
+            long generation = timelineBuffer.startLoad(ownerEmail);
+            List<Long> latest = timelineMapper.findPostIds(ownerEmail, null, TimelineBuffer.CAPACITY);
+            timelineBuffer.load(ownerEmail, generation, latest);
+            return latest.size() > limit ? latest.subList(0, limit) : latest;
+        }
+        return timelineMapper.findPostIds(ownerEmail, beforeId, limit);
+    }
+
+    /**
+     * pull 작성자 목록 갱신 (팔로워 수 기준)
+     * - 새로 pull 이 된 작성자 : 이미 fan-out 된 글은 timeline_entries 에 남아 있고, 이후 글은 조회 시 직접 읽음
+     *   (다른 인스턴스가 fan-out 을 생략한 글도 posts 에서 직접 읽으므로 갱신되는 순간 보임)
+     * - pull 에서 빠진 작성자 : pull 동안 fan-out 되지 않은 최근 글을 팔로워 타임라인에 채운 뒤 목록에서 뺌
+     */
+    @Transactional
+    @Scheduled(initialDelayString = "${community.timeline.pull-authors-refresh.initial-delay-ms:0}",
+            fixedDelayString = "${community.timeline.pull-authors-refresh.interval-ms:600000}")
+    public void refreshPullAuthors() {
+        Set<String> refreshed = Set.copyOf(followMapper.findEmailsWithFollowersAtLeast(fanOutMaxFollowers + 1));
+
+        for (String demoted : pullAuthors) {
+            if (!refreshed.contains(demoted)) {
+                backfillFollowers(demoted);
+            }
+        }
+
+        pullAuthors = refreshed;
+        if (!pullAuthors.isEmpty()) {
+            log.info("타임라인 pull 작성자 갱신: {}명", pullAuthors.size());
+        }
+    }
+
+    private void backfillFollowers(String authorEmail) {
+        timelineMapper.insertRecentPostsForFollowers(authorEmail, FOLLOW_BACKFILL_SIZE);
+        List<String> followers = followMapper.findFollowerEmails(authorEmail, fanOutMaxFollowers + 1);
+        AfterCommit.run(() -> followers.forEach(timelineBuffer::evict));
+    }
+
+    private synchronized void addPullAuthor(String authorEmail) {
+        if (!pullAuthors.contains(authorEmail)) {
+            Set<String> updated = new HashSet<>(pullAuthors);
+            updated.add(authorEmail);
+            pullAuthors = Set.copyOf(updated);
+        }
+    }
+
+    /**
+     * 타임라인 한 페이지 (PostService 에서 PostResponse 로 변환)
+     */
+    public record TimelinePage(int size, List<Post> posts, boolean hasNext, String nextCursor) {
+    }
+}
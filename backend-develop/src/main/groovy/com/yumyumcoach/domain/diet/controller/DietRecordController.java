@@ -1,14 +1,21 @@
 package com.yumyumcoach.domain.diet.controller;
 
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
+import com.yumyumcoach.domain.diet.service.DietImportService;
 import com.yumyumcoach.domain.diet.service.DietRecordService;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
 
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,7 +26,9 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @Validated
@@ -27,20 +36,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class DietRecordController {
 
     private final DietRecordService dietRecordService;
+    private final DietImportService dietImportService;
 
-    public DietRecordController(DietRecordService dietRecordService) {
+    public DietRecordController(DietRecordService dietRecordService, DietImportService dietImportService) {
         this.dietRecordService = dietRecordService;
+        this.dietImportService = dietImportService;
     }
 
     @GetMapping
     public ResponseEntity<List<DietRecordDto>> getMyDiets(
             Principal principal,
             @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "period", required = false) String period,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "20") int size
     ) {
         String email = principal.getName();
-        return ResponseEntity.ok(dietRecordService.getMyDiets(email, date, page, size));
+        return ResponseEntity.ok(dietRecordService.getMyDiets(email, date, period, page, size));
     }
 
     @GetMapping("/{dietId}")
@@ -66,6 +78,26 @@ public class DietRecordController {
         return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(dietId);
     }
 
+    /**
+     * 식단 기록 일괄 가져오기 (NDJSON / CSV, 한 줄 = 음식 한 개)
+     * - format 이 없으면 파일 확장자로 판단
+     * - 잘못된 줄은 건너뛰고 줄 번호별 오류를 응답에 담음
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DietImportResponse> importMyDiets(
+            Principal principal,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format
+    ) {
+        String email = principal.getName();
+        DietImportService.Format resolved = DietImportService.Format.resolve(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(dietImportService.importDiets(email, in, resolved));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "가져올 파일을 읽을 수 없습니다.");
+        }
+    }
+
     @DeleteMapping("/{dietId}")
     public ResponseEntity<Void> deleteMyDiet(
             Principal principal,
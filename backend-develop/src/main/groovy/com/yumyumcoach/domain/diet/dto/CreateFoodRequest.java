@@ -10,6 +10,10 @@ import lombok.*;
 @Builder
 public class CreateFoodRequest {
 
+    // MyBatis generated keys 채우기용 (keyProperty="id")
+    @Setter
+    private Long id;
+
     @NotBlank
     private String name;
 
@@ -0,0 +1,23 @@
+package com.yumyumcoach.domain.diet.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 섭취 영양소 합계 (음식 영양 정보 x serve_count 합).
+ * - 식단 기록이 없는 날은 행이 없음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyNutritionTotal {
+
+    private LocalDate recordDate;
+
+    private double carbohydrate;
+    private double protein;
+    private double fat;
+    private double calories;
+}
@@ -0,0 +1,13 @@
+package com.yumyumcoach.domain.diet.dto;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DietImportError {
+
+    private long line;       // 파일 기준 줄 번호 (1부터)
+    private String message;
+}
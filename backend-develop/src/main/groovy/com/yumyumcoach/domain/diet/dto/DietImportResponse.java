@@ -0,0 +1,20 @@
+package com.yumyumcoach.domain.diet.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DietImportResponse {
+
+    private long totalLines;       // 빈 줄 / CSV 헤더 제외
+    private long importedRecords;  // 저장된 식단 수
+    private long importedItems;    // 저장된 음식 항목 수
+    private long failedLines;
+
+    // 줄 단위 오류 (앞에서부터 최대 1,000개, 전체 개수는 failedLines)
+    private List<DietImportError> errors;
+}
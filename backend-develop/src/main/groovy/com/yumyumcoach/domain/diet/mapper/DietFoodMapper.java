@@ -16,6 +16,10 @@ public interface DietFoodMapper {
 
     int deleteDietFoodsByDietId(@Param("dietId") Long dietId);
 
+    int deleteDietFoodsByIds(@Param("dietId") Long dietId, @Param("ids") List<Long> ids);
+
+    int updateDietFoods(@Param("dietId") Long dietId, @Param("items") List<DietFoodDto> items);
+
     List<DietFoodDto> selectDietFoodsByDietId(@Param("dietId") Long dietId);
 }
 
@@ -1,6 +1,7 @@
 package com.yumyumcoach.domain.diet.mapper;
 
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DailyNutritionTotal;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
 
 import java.time.LocalDate;
@@ -38,13 +39,28 @@ public interface DietRecordMapper {
             @Param("limit") int limit
     );
 
-    List<DietRecordDto> selectDietRecordsByUserAndDate(
+    // 기간 [startDate, endDate) 조회
+    List<DietRecordDto> selectDietRecordsByUserAndDateRange(
             @Param("email") String email,
-            @Param("recordDate") LocalDate recordDate,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
 
+    // 기간 [startDate, endDate) 날짜별 영양소 합계 (GROUP BY record_date)
+    List<DailyNutritionTotal> selectDailyNutritionTotals(
+            @Param("email") String email,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     String selectOwnerEmail(@Param("id") Long id);
+
+    // 본인 식단의 기록 날짜 (수정 / 삭제 전 주간 통계 무효화용)
+    LocalDate selectRecordDate(
+            @Param("id") Long id,
+            @Param("email") String email
+    );
 }
 
@@ -18,10 +18,10 @@ public interface FoodMapper {
 
     FoodDto selectFoodById(@Param("id") Long id);
 
-    List<FoodDto> selectFoods(
-            @Param("keyword") String keyword,
-            @Param("offset") int offset,
-            @Param("limit") int limit
-    );
+    // 여러 음식 (FoodNutrientCache 적재용)
+    List<FoodDto> selectFoodsByIds(@Param("ids") List<Long> ids);
+
+    // 전체 음식 (검색 인덱스 생성용)
+    List<FoodDto> selectAllFoods();
 }
 
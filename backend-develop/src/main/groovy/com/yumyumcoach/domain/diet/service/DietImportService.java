@@ -0,0 +1,395 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietImportError;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
+import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 다른 앱에서 옮겨 오는 식단 기록 일괄 가져오기.
+ * - NDJSON / CSV 를 한 줄씩 읽어서 처리 (파일 전체를 메모리에 올리지 않음)
+ * - 한 줄 = 음식 한 개, 연속된 줄의 (recordDate, mealType) 이 같으면 한 식단으로 묶음
+ * - 음식 이름은 FoodSearchIndex, 음식 ID 는 FoodNutrientCache 로 확인 (줄마다 DB 조회하지 않음)
+ * - CHUNK_SIZE 식단마다 MyBatis BATCH executor 로 모아서 저장하고 커밋
+ * - 잘못된 줄은 건너뛰고 줄 번호와 사유를 결과에 담음
+ */
+@Slf4j
+@Service
+public class DietImportService {
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ITEMS_PER_RECORD = 100;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodNutrientCache foodNutrientCache;
+    private final WeeklyStatsCache weeklyStatsCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public DietImportService(SqlSessionFactory sqlSessionFactory,
+                             PlatformTransactionManager transactionManager,
+                             FoodSearchIndex foodSearchIndex,
+                             FoodNutrientCache foodNutrientCache,
+                             WeeklyStatsCache weeklyStatsCache) {
+        this(new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH), new TransactionTemplate(transactionManager),
+                foodSearchIndex, foodNutrientCache, weeklyStatsCache);
+    }
+
+    // 테스트에서 BATCH 세션 / 트랜잭션을 바꿔 끼울 때 사용
+    DietImportService(SqlSessionTemplate batchSqlSession,
+                      TransactionTemplate transactionTemplate,
+                      FoodSearchIndex foodSearchIndex,
+                      FoodNutrientCache foodNutrientCache,
+                      WeeklyStatsCache weeklyStatsCache) {
+        this.batchSqlSession = batchSqlSession;
+        this.transactionTemplate = transactionTemplate;
+        this.foodSearchIndex = foodSearchIndex;
+        this.foodNutrientCache = foodNutrientCache;
+        this.weeklyStatsCache = weeklyStatsCache;
+    }
+
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * format 파라미터가 없으면 파일 확장자로 판단 (.csv 가 아니면 NDJSON)
+         */
+        public static Format resolve(String format, String filename) {
+            if (format != null && !format.isBlank()) {
+                try {
+                    return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 형식입니다: " + format);
+                }
+            }
+            return filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+        }
+    }
+
+    public DietImportResponse importDiets(String email, InputStream in, Format format) {
+        Report report = new Report();
+        // 없는 음식 ID 는 캐시에도 남지 않으므로 이 가져오기 안에서 기억해서 같은 ID 로 다시 조회하지 않음
+        Set<Long> missingFoodIds = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvColumns = null;
+            List<PendingRecord> chunk = new ArrayList<>();
+            PendingRecord current = null;
+            long lineNo = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvColumns == null) {
+                    csvColumns = parseCsvHeader(line);
+                    continue;
+                }
+
+                report.totalLines++;
+                ImportLine parsed;
+                Long foodId;
+                try {
+                    parsed = format == Format.CSV ? parseCsvLine(csvColumns, line) : parseNdjsonLine(line);
+                    foodId = resolveFoodId(parsed, missingFoodIds);
+                } catch (IllegalArgumentException e) {
+                    report.fail(lineNo, e.getMessage());
+                    continue;
+                }
+
+                if (current == null || !current.accepts(parsed)) {
+                    if (current != null) {
+                        chunk.add(current);
+                        if (chunk.size() >= CHUNK_SIZE) {
+                            writeChunk(email, chunk, report);
+                            chunk.clear();
+                        }
+                    }
+                    current = new PendingRecord(parsed.recordDate(), parsed.mealType());
+                }
+                current.add(lineNo, foodId, parsed.serveCount());
+            }
+            if (current != null) {
+                chunk.add(current);
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(email, chunk, report);
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "가져올 파일을 읽을 수 없습니다.");
+        }
+        return report.toResponse();
+    }
+
+    /**
+     * 식단 묶음 저장 (묶음 하나가 트랜잭션 하나)
+     * - diet_records 를 모아서 실행한 뒤 생성된 id 로 diet_foods 를 다시 모아서 실행
+     * - 실패하면 이 묶음의 줄만 오류로 남기고 다음 묶음을 계속 처리
+     */
+    private void writeChunk(String email, List<PendingRecord> chunk, Report report) {
+        List<CreateDietRecordRequest> requests = chunk.stream()
+                .map(PendingRecord::toRequest)
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                DietRecordMapper dietRecordMapper = batchSqlSession.getMapper(DietRecordMapper.class);
+                DietFoodMapper dietFoodMapper = batchSqlSession.getMapper(DietFoodMapper.class);
+
+                requests.forEach(request -> dietRecordMapper.insertDietRecord(email, request));
+                // 생성된 diet_records.id 가 request.id 에 채워짐
+                batchSqlSession.flushStatements();
+
+                requests.forEach(request -> dietFoodMapper.insertDietFoods(request.getId(), request.getItems()));
+                batchSqlSession.flushStatements();
+
+                weeklyStatsCache.evictAfterCommit(email,
+                        requests.stream().map(CreateDietRecordRequest::getRecordDate).toList());
+            });
+        } catch (RuntimeException e) {
+            log.warn("식단 가져오기 저장 실패 - email: {}, records: {}", email, chunk.size(), e);
+            chunk.forEach(record -> record.lines.forEach(line -> report.fail(line, "저장 중 오류가 발생했습니다.")));
+            return;
+        }
+        report.importedRecords += chunk.size();
+        report.importedItems += chunk.stream().mapToLong(record -> record.items.size()).sum();
+    }
+
+    private Long resolveFoodId(ImportLine line, Set<Long> missingFoodIds) {
+        if (line.foodId() != null) {
+            if (missingFoodIds.contains(line.foodId())
+                    || !foodNutrientCache.getAll(List.of(line.foodId())).containsKey(line.foodId())) {
+                missingFoodIds.add(line.foodId());
+                throw new IllegalArgumentException("존재하지 않는 음식 ID 입니다: " + line.foodId());
+            }
+            return line.foodId();
+        }
+        return foodSearchIndex.findByName(line.foodName())
+                .map(FoodDto::getId)
+                .orElseThrow(() -> new IllegalArgumentException("음식을 찾을 수 없습니다: " + line.foodName()));
+    }
+
+    private ImportLine parseNdjsonLine(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        return toImportLine(name -> node.hasNonNull(name) ? node.get(name).asText() : null);
+    }
+
+    /**
+     * CSV 헤더 : recordDate, mealType, foodId, foodName, serveCount (순서 무관, record_date 처럼 써도 됨)
+     */
+    static Map<String, Integer> parseCsvHeader(String line) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(line);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(columnKey(names.get(i)), i);
+        }
+        if (!columns.containsKey(columnKey("recordDate")) || !columns.containsKey(columnKey("mealType"))
+                || (!columns.containsKey(columnKey("foodId")) && !columns.containsKey(columnKey("foodName")))) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "CSV 헤더에 recordDate, mealType, foodId 또는 foodName 컬럼이 필요합니다.");
+        }
+        return columns;
+    }
+
+    static ImportLine parseCsvLine(Map<String, Integer> columns, String line) {
+        List<String> fields = splitCsv(line);
+        return toImportLine(name -> {
+            Integer index = columns.get(columnKey(name));
+            return index == null || index >= fields.size() ? null : fields.get(index);
+        });
+    }
+
+    /**
+     * 쉼표 구분 + 큰따옴표 감싸기("a,b", "" 는 따옴표 한 개) 지원, 줄바꿈이 들어간 필드는 지원하지 않음
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String columnKey(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static ImportLine toImportLine(Function<String, String> field) {
+        String recordDate = trimToNull(field.apply("recordDate"));
+        String mealType = trimToNull(field.apply("mealType"));
+        String foodId = trimToNull(field.apply("foodId"));
+        String foodName = trimToNull(field.apply("foodName"));
+        String serveCount = trimToNull(field.apply("serveCount"));
+
+        if (recordDate == null) {
+            throw new IllegalArgumentException("recordDate 가 없습니다.");
+        }
+        if (mealType == null) {
+            throw new IllegalArgumentException("mealType 이 없습니다.");
+        }
+        if (foodId == null && foodName == null) {
+            throw new IllegalArgumentException("foodId 또는 foodName 이 필요합니다.");
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(recordDate);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("recordDate 형식이 올바르지 않습니다 (yyyy-MM-dd): " + recordDate);
+        }
+        double serve = serveCount == null ? 1.0 : parseNumber("serveCount", serveCount);
+        if (!(serve > 0)) {
+            throw new IllegalArgumentException("serveCount 는 0보다 커야 합니다: " + serveCount);
+        }
+        Long id;
+        try {
+            id = foodId == null ? null : Long.parseLong(foodId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("foodId 가 숫자가 아닙니다: " + foodId);
+        }
+        return new ImportLine(date, mealType, id, foodName, serve);
+    }
+
+    private static double parseNumber(String name, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 가 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    record ImportLine(LocalDate recordDate, String mealType, Long foodId, String foodName, double serveCount) {
+    }
+
+    /**
+     * 저장 대기 중인 식단 하나 (음식 항목과 원본 줄 번호)
+     */
+    private static final class PendingRecord {
+        private final LocalDate recordDate;
+        private final String mealType;
+        private final List<CreateDietFoodRequest> items = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+
+        PendingRecord(LocalDate recordDate, String mealType) {
+            this.recordDate = recordDate;
+            this.mealType = mealType;
+        }
+
+        boolean accepts(ImportLine line) {
+            return recordDate.equals(line.recordDate())
+                    && mealType.equals(line.mealType())
+                    && items.size() < MAX_ITEMS_PER_RECORD;
+        }
+
+        void add(long line, Long foodId, double serveCount) {
+            items.add(CreateDietFoodRequest.builder()
+                    .foodId(foodId)
+                    .serveCount(serveCount)
+                    .orderIndex(items.size() + 1)
+                    .build());
+            lines.add(line);
+        }
+
+        CreateDietRecordRequest toRequest() {
+            return CreateDietRecordRequest.builder()
+                    .recordDate(recordDate)
+                    .mealType(mealType)
+                    .items(items)
+                    .build();
+        }
+    }
+
+    private static final class Report {
+        private long totalLines;
+        private long importedRecords;
+        private long importedItems;
+        private long failedLines;
+        private final List<DietImportError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failedLines++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(DietImportError.builder().line(line).message(message).build());
+            }
+        }
+
+        DietImportResponse toResponse() {
+            return DietImportResponse.builder()
+                    .totalLines(totalLines)
+                    .importedRecords(importedRecords)
+                    .importedItems(importedItems)
+                    .failedLines(failedLines)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.yumyumcoach.domain.diet.service;
 
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DailyNutritionTotal;
+import com.yumyumcoach.domain.diet.dto.DietFoodDto;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
 import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
 import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.global.common.DatePeriod;
+import com.yumyumcoach.global.common.DateRange;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -19,12 +31,23 @@ public class DietRecordService {
 
     private final DietRecordMapper dietRecordMapper;
     private final DietFoodMapper dietFoodMapper;
+    private final FoodNutrientCache foodNutrientCache;
+    private final WeeklyStatsCache weeklyStatsCache;
 
     @Transactional(readOnly = true)
-    public List<DietRecordDto> getMyDiets(String email, LocalDate date, int page, int size) {
+    public List<DietRecordDto> getMyDiets(String email, LocalDate date, String period, int page, int size) {
         int limit = Math.max(size, 1);
         int offset = Math.max(page, 0) * limit;
-        return dietRecordMapper.selectDietRecordsByUserAndDate(email, date, offset, limit);
+        DateRange range = DatePeriod.resolve(period).rangeOf(date);
+        return dietRecordMapper.selectDietRecordsByUserAndDateRange(email, range.start(), range.end(), offset, limit);
+    }
+
+    /**
+     * 기간 [start, end) 날짜별 영양소 합계 (쿼리 1번, 기록이 없는 날은 빠짐)
+     */
+    @Transactional(readOnly = true)
+    public List<DailyNutritionTotal> getDailyNutritionTotals(String email, DateRange range) {
+        return dietRecordMapper.selectDailyNutritionTotals(email, range.start(), range.end());
     }
 
     @Transactional(readOnly = true)
@@ -33,7 +56,10 @@ public class DietRecordService {
         if (dto == null) {
             throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
         }
-        return dto;
+        // diet_foods 행만 읽었으므로 음식 이름 / 영양 정보는 캐시에서 채움
+        return dto.toBuilder()
+                .items(foodNutrientCache.hydrate(dto.getItems()))
+                .build();
     }
 
     @Transactional
@@ -47,6 +73,7 @@ public class DietRecordService {
         if (request.getItems() != null && !request.getItems().isEmpty()) {
             dietFoodMapper.insertDietFoods(dietId, request.getItems());
         }
+        weeklyStatsCache.evictAfterCommit(email, request.getRecordDate());
         return dietId;
     }
 
@@ -59,30 +86,78 @@ public class DietRecordService {
         if (!owner.equals(email)) {
             throw new BusinessException(ErrorCode.DIET_FORBIDDEN);
         }
+        LocalDate recordDate = dietRecordMapper.selectRecordDate(dietId, email);
         dietFoodMapper.deleteDietFoodsByDietId(dietId);
         int deleted = dietRecordMapper.deleteDietRecord(dietId, email);
         if (deleted == 0) {
             throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
         }
+        weeklyStatsCache.evictAfterCommit(email, recordDate);
     }
 
+    /**
+     * 식단 수정
+     * - 소유자 확인은 UPDATE 조건(email)으로 처리하고, 0행일 때만 원인(없음/권한 없음)을 조회
+     * - 음식 항목은 기존 diet_foods 와 order_index 기준으로 비교해서 바뀐 행만 삭제 / 수정 / 추가
+     * - 주간 통계는 이전 날짜와 바뀐 날짜의 주를 모두 무효화
+     */
     @Transactional
     public void updateMyDiet(String email, Long dietId, CreateDietRecordRequest request) {
-        String owner = dietRecordMapper.selectOwnerEmail(dietId);
-        if (owner == null) {
-            throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
-        }
-        if (!owner.equals(email)) {
-            throw new BusinessException(ErrorCode.DIET_FORBIDDEN);
-        }
+        LocalDate previousDate = dietRecordMapper.selectRecordDate(dietId, email);
         int updated = dietRecordMapper.updateDietRecord(dietId, email, request);
         if (updated == 0) {
-            throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
+            String owner = dietRecordMapper.selectOwnerEmail(dietId);
+            throw new BusinessException(owner == null ? ErrorCode.DIET_NOT_FOUND : ErrorCode.DIET_FORBIDDEN);
         }
-        // 음식 항목 재구성: 일단 모두 삭제 후 재삽입 (간단 전략)
-        dietFoodMapper.deleteDietFoodsByDietId(dietId);
-        if (request.getItems() != null && !request.getItems().isEmpty()) {
-            dietFoodMapper.insertDietFoods(dietId, request.getItems());
+        List<CreateDietFoodRequest> items = request.getItems() == null ? List.of() : request.getItems();
+        applyDietFoodChanges(dietId, dietFoodMapper.selectDietFoodsByDietId(dietId), items);
+        weeklyStatsCache.evictAfterCommit(email, previousDate, request.getRecordDate());
+    }
+
+    /**
+     * 같은 order_index 자리에
+     * - 요청 항목이 없으면 삭제, 기존 행이 없으면 추가
+     * - 둘 다 있고 음식 / 인분이 다르면 기존 행(id 유지)을 수정
+     * 삭제 -> 수정 -> 추가 순서라서 (diet_id, order_index) 유니크 키와 충돌하지 않음
+     */
+    private void applyDietFoodChanges(Long dietId, List<DietFoodDto> existing, List<CreateDietFoodRequest> items) {
+        Map<Integer, CreateDietFoodRequest> requested = new HashMap<>();
+        for (CreateDietFoodRequest item : items) {
+            if (requested.put(item.getOrderIndex(), item) != null) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "음식 항목의 순서(orderIndex)가 중복되었습니다.");
+            }
+        }
+
+        List<Long> deletes = new ArrayList<>();
+        List<DietFoodDto> updates = new ArrayList<>();
+        Set<Integer> kept = new HashSet<>();
+        for (DietFoodDto row : existing) {
+            CreateDietFoodRequest item = requested.get(row.getOrderIndex());
+            if (item == null) {
+                deletes.add(row.getId());
+                continue;
+            }
+            kept.add(row.getOrderIndex());
+            if (!Objects.equals(row.getFoodId(), item.getFoodId())
+                    || !Objects.equals(row.getServeCount(), item.getServeCount())) {
+                updates.add(row.toBuilder()
+                        .foodId(item.getFoodId())
+                        .serveCount(item.getServeCount())
+                        .build());
+            }
+        }
+        List<CreateDietFoodRequest> inserts = items.stream()
+                .filter(item -> !kept.contains(item.getOrderIndex()))
+                .toList();
+
+        if (!deletes.isEmpty()) {
+            dietFoodMapper.deleteDietFoodsByIds(dietId, deletes);
+        }
+        if (!updates.isEmpty()) {
+            dietFoodMapper.updateDietFoods(dietId, updates);
+        }
+        if (!inserts.isEmpty()) {
+            dietFoodMapper.insertDietFoods(dietId, inserts);
         }
     }
 }
@@ -0,0 +1,118 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.DietFoodDto;
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import com.yumyumcoach.global.cache.CacheMetrics;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음식 ID -> 이름 / 영양 정보 캐시.
+ * - 식단 조회는 diet_foods 행만 읽고 음식 정보는 여기서 채움 (foods JOIN 없음)
+ * - 캐시에 없는 음식만 모아서 foods 한 번에 조회
+ * - 음식 수정 / 삭제 시 커밋 후 무효화, 다른 인스턴스에서 바뀐 값은 TTL 로 맞춤
+ */
+@Component
+public class FoodNutrientCache {
+    private static final long TTL_MILLIS = 30 * 60_000L;
+    private static final int MAX_ENTRIES = 20_000;
+
+    private final FoodMapper foodMapper;
+    private final CacheMetrics metrics;
+
+    private final Map<Long, CachedFood> foods = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public FoodNutrientCache(FoodMapper foodMapper, CacheMetricsRegistry cacheMetricsRegistry) {
+        this.foodMapper = foodMapper;
+        this.metrics = cacheMetricsRegistry.register("foodNutrients");
+    }
+
+    /**
+     * 음식 ID -> 음식 (삭제되어 없는 음식은 결과에서 빠짐)
+     */
+    public Map<Long, FoodDto> getAll(Collection<Long> foodIds) {
+        Map<Long, FoodDto> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Long foodId : new LinkedHashSet<>(foodIds)) {
+            if (foodId == null) {
+                continue;
+            }
+            CachedFood cached = foods.get(foodId);
+            if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+                metrics.recordHit(now - cached.loadedAt());
+                result.put(foodId, cached.food());
+            } else {
+                metrics.recordMiss();
+                missing.add(foodId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadedGeneration = generation.get();
+            List<FoodDto> loaded = foodMapper.selectFoodsByIds(missing);
+            if (foods.size() + loaded.size() > MAX_ENTRIES) {
+                metrics.recordEvictions(foods.size());
+                foods.clear();
+            }
+            for (FoodDto food : loaded) {
+                result.put(food.getId(), food);
+                // 조회 도중 무효화가 있었으면 이번 결과는 보관하지 않음
+                if (generation.get() == loadedGeneration) {
+                    foods.put(food.getId(), new CachedFood(food, now));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * diet_foods 행에 음식 이름 / 영양 정보 채우기
+     */
+    public List<DietFoodDto> hydrate(List<DietFoodDto> items) {
+        if (items == null || items.isEmpty()) {
+            return items;
+        }
+        Map<Long, FoodDto> byId = getAll(items.stream().map(DietFoodDto::getFoodId).toList());
+        return items.stream()
+                .map(item -> {
+                    FoodDto food = byId.get(item.getFoodId());
+                    if (food == null) {
+                        return item;
+                    }
+                    return item.toBuilder()
+                            .foodName(food.getName())
+                            .calories(food.getCalories())
+                            .carbs(food.getCarbohydrate())
+                            .protein(food.getProtein())
+                            .fat(food.getFat())
+                            .build();
+                })
+                .toList();
+    }
+
+    public void evictAfterCommit(Long foodId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            if (foods.remove(foodId) != null) {
+                metrics.recordEvictions(1);
+            }
+        });
+    }
+
+    private record CachedFood(FoodDto food, long loadedAt) {
+    }
+}
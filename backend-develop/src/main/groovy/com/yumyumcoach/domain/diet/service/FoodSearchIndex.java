@@ -0,0 +1,484 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import com.yumyumcoach.global.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 음식 이름 검색용 메모리 인덱스.
+ * - 이름(공백 제거, 소문자)의 1-gram / 2-gram -> 음식 slot(정렬된 int[]) 역인덱스
+ * - 초성만으로 된 검색어("ㄱㅊㅉㄱ")는 이름의 초성 문자열에 대한 같은 구조의 인덱스로 검색
+ * - 순위 : 완전 일치 > 앞부분 일치 > 중간 일치, 같은 순위는 짧은 이름 / 앞쪽 위치 / 최신 id 순
+ * - 처음 검색할 때 foods 전체를 읽어서 만들고, 음식 추가/수정/삭제는 커밋 후 바로 반영
+ * - 다른 인스턴스에서 바뀐 내용은 주기적으로 전체를 다시 만들어서 맞춤
+ */
+@Slf4j
+@Component
+public class FoodSearchIndex {
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] EMPTY = new int[0];
+
+    private final FoodMapper foodMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Catalog catalog;
+    // 전체 다시 만드는 동안 들어온 추가/수정/삭제 (새 카탈로그에 다시 적용)
+    private List<Consumer<Catalog>> pendingDuringRebuild;
+
+    public FoodSearchIndex(FoodMapper foodMapper) {
+        this.foodMapper = foodMapper;
+    }
+
+    /**
+     * 이름 검색 (keyword 가 비어 있으면 최신 id 순 전체 목록)
+     */
+    public List<FoodDto> search(String keyword, int offset, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return catalog.search(keyword, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름이 정확히 같은 음식 (공백 / 대소문자 무시, 같은 이름이 여러 개면 최신 id)
+     */
+    public Optional<FoodDto> findByName(String name) {
+        if (name == null || normalize(name).isEmpty()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(name);
+        return search(name, 0, 1).stream()
+                .filter(food -> food.getName() != null && normalize(food.getName()).equals(normalized))
+                .findFirst();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 음식을 추가/교체
+     */
+    public void putAfterCommit(FoodDto food) {
+        AfterCommit.run(() -> apply(catalog -> catalog.put(food)));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 음식을 제거
+     */
+    public void removeAfterCommit(Long foodId) {
+        AfterCommit.run(() -> apply(catalog -> catalog.remove(foodId)));
+    }
+
+    /**
+     * foods 전체를 다시 읽어서 교체
+     * - 읽고 만드는 동안은 기존 인덱스로 검색하고, 그 사이 변경은 새 인덱스에 다시 적용한 뒤 교체
+     */
+    @Scheduled(initialDelayString = "${diet.food-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${diet.food-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (catalog == null || pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Catalog rebuilt = null;
+        try {
+            rebuilt = Catalog.of(foodMapper.selectAllFoods());
+        } catch (RuntimeException e) {
+            log.warn("음식 검색 인덱스 재생성 실패, 기존 인덱스를 계속 사용합니다.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    pendingDuringRebuild.forEach(rebuilt::apply);
+                    catalog = rebuilt;
+                }
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (catalog != null) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 처음 한 번은 쓰기 잠금을 잡은 채로 읽어서, 그 사이 커밋된 변경이 뒤에 적용되게 함
+        lock.writeLock().lock();
+        try {
+            if (catalog == null) {
+                catalog = Catalog.of(foodMapper.selectAllFoods());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Catalog> change) {
+        lock.writeLock().lock();
+        try {
+            // 아직 만들기 전이면 처음 만들 때 DB 에서 읽어 옴
+            if (catalog == null) {
+                return;
+            }
+            catalog.apply(change);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 / 이름 정규화 : 공백 제거 + 소문자
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절은 초성으로 바꾸고 나머지 글자는 그대로 둔 문자열 ("김치찌개" -> "ㄱㅊㅉㄱ")
+     */
+    static String chosungOf(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            sb.append(c >= '가' && c <= '힣' ? CHOSUNG[(c - '가') / 588] : c);
+        }
+        return sb.toString();
+    }
+
+    static boolean isChosungOnly(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(FoodDto food, String name, String chosung) {
+        static Entry of(FoodDto food) {
+            String name = normalize(food.getName() == null ? "" : food.getName());
+            return new Entry(food, name, chosungOf(name));
+        }
+    }
+
+    /**
+     * 한 시점의 인덱스 (쓰기 잠금 안에서만 변경)
+     * - 음식마다 slot 번호를 주고 posting 은 slot 의 정렬된 int[] 로 보관
+     * - gram 은 글자 2개를 int 하나로 합친 키 (1-gram 은 앞 글자 자리가 0)
+     */
+    private static final class Catalog {
+        // 순위 키 : [순위 2bit][이름 길이 10bit][위치 8bit][MAX_ID - id 40bit] (작을수록 앞)
+        private static final long MAX_ID = (1L << 40) - 1;
+
+        private final NavigableMap<Long, Integer> slotById = new TreeMap<>();
+        private Entry[] entries = new Entry[16];
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private int nextSlot;
+        private final Map<Integer, int[]> nameGrams = new HashMap<>();
+        private final Map<Integer, int[]> chosungGrams = new HashMap<>();
+
+        /**
+         * 전체 목록으로 한 번에 만들기
+         * - id 오름차순으로 slot 을 주고 gram 별 버퍼에 모은 뒤 마지막에 배열로 바꿈 (하나씩 put 하면 배열 복사가 누적됨)
+         */
+        static Catalog of(List<FoodDto> foods) {
+            Map<Integer, PostingBuffer> names = new HashMap<>();
+            Map<Integer, PostingBuffer> chosungs = new HashMap<>();
+            Catalog catalog = new Catalog();
+            foods.stream()
+                    .sorted(Comparator.comparing(FoodDto::getId))
+                    .forEach(food -> {
+                        if (catalog.slotById.containsKey(food.getId())) {
+                            return;
+                        }
+                        Entry entry = Entry.of(food);
+                        int slot = catalog.allocate(food.getId(), entry);
+                        for (int gram : gramsOf(entry.name(), true)) {
+                            names.computeIfAbsent(gram, g -> new PostingBuffer()).add(slot);
+                        }
+                        for (int gram : gramsOf(entry.chosung(), true)) {
+                            chosungs.computeIfAbsent(gram, g -> new PostingBuffer()).add(slot);
+                        }
+                    });
+            names.forEach((gram, buffer) -> catalog.nameGrams.put(gram, buffer.toArray()));
+            chosungs.forEach((gram, buffer) -> catalog.chosungGrams.put(gram, buffer.toArray()));
+            return catalog;
+        }
+
+        void apply(Consumer<Catalog> change) {
+            change.accept(this);
+        }
+
+        void put(FoodDto food) {
+            remove(food.getId());
+            Entry entry = Entry.of(food);
+            int slot = allocate(food.getId(), entry);
+            for (int gram : gramsOf(entry.name(), true)) {
+                nameGrams.merge(gram, new int[]{slot}, Catalog::insert);
+            }
+            for (int gram : gramsOf(entry.chosung(), true)) {
+                chosungGrams.merge(gram, new int[]{slot}, Catalog::insert);
+            }
+        }
+
+        void remove(Long foodId) {
+            Integer slot = slotById.remove(foodId);
+            if (slot == null) {
+                return;
+            }
+            Entry entry = entries[slot];
+            for (int gram : gramsOf(entry.name(), true)) {
+                nameGrams.computeIfPresent(gram, (g, slots) -> delete(slots, slot));
+            }
+            for (int gram : gramsOf(entry.chosung(), true)) {
+                chosungGrams.computeIfPresent(gram, (g, slots) -> delete(slots, slot));
+            }
+            entries[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        List<FoodDto> search(String keyword, int offset, int limit) {
+            String query = keyword == null ? "" : normalize(keyword);
+            if (query.isEmpty()) {
+                return slotById.descendingMap().values().stream()
+                        .skip(offset)
+                        .limit(limit)
+                        .map(slot -> entries[slot].food())
+                        .toList();
+            }
+
+            boolean chosungQuery = isChosungOnly(query);
+            int[] candidates = intersect(chosungQuery ? chosungGrams : nameGrams, gramsOf(query, false));
+
+            // n-gram 교집합은 순서를 보지 않으므로 실제 포함 여부를 다시 확인하고 순위 키를 만듦
+            long[] keys = new long[candidates.length];
+            int size = 0;
+            for (int slot : candidates) {
+                Entry entry = entries[slot];
+                String target = chosungQuery ? entry.chosung() : entry.name();
+                int position = target.indexOf(query);
+                if (position < 0) {
+                    continue;
+                }
+                long rank = target.length() == query.length() ? 0 : position == 0 ? 1 : 2;
+                keys[size++] = rank << 58
+                        | (long) Math.min(entry.name().length(), 1023) << 48
+                        | (long) Math.min(position, 255) << 40
+                        | (MAX_ID - entry.food().getId());
+            }
+
+            long[] top = smallest(keys, size, offset + limit);
+            List<FoodDto> result = new ArrayList<>(Math.max(top.length - offset, 0));
+            for (int i = offset; i < top.length; i++) {
+                long id = MAX_ID - (top[i] & MAX_ID);
+                result.add(entries[slotById.get(id)].food());
+            }
+            return result;
+        }
+
+        private int allocate(Long foodId, Entry entry) {
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            if (slot == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[slot] = entry;
+            slotById.put(foodId, slot);
+            return slot;
+        }
+
+        /**
+         * 색인할 때는 1-gram + 2-gram 모두, 검색할 때는 2-gram (한 글자 검색어만 1-gram)
+         */
+        private static int[] gramsOf(String text, boolean forIndex) {
+            boolean unigrams = forIndex || text.length() == 1;
+            int[] grams = new int[(unigrams ? text.length() : 0) + Math.max(text.length() - 1, 0)];
+            int size = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (unigrams) {
+                    grams[size++] = text.charAt(i);
+                }
+                if (i + 1 < text.length()) {
+                    grams[size++] = text.charAt(i) << 16 | text.charAt(i + 1);
+                }
+            }
+            Arrays.sort(grams);
+            return distinct(grams);
+        }
+
+        private static int[] distinct(int[] sorted) {
+            int size = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[size++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, size);
+        }
+
+        // posting 이 가장 짧은 gram 부터 시작해서 나머지에서 이진 탐색
+        private static int[] intersect(Map<Integer, int[]> index, int[] grams) {
+            List<int[]> postings = new ArrayList<>(grams.length);
+            for (int gram : grams) {
+                int[] slots = index.get(gram);
+                if (slots == null) {
+                    return EMPTY;
+                }
+                postings.add(slots);
+            }
+            postings.sort(Comparator.comparingInt(slots -> slots.length));
+
+            int[] result = postings.get(0);
+            for (int p = 1; p < postings.size() && result.length > 0; p++) {
+                int[] other = postings.get(p);
+                int[] kept = new int[result.length];
+                int size = 0;
+                for (int slot : result) {
+                    if (Arrays.binarySearch(other, slot) >= 0) {
+                        kept[size++] = slot;
+                    }
+                }
+                result = Arrays.copyOf(kept, size);
+            }
+            return result;
+        }
+
+        /**
+         * keys[0, size) 중 작은 값 k 개를 오름차순으로
+         * - 후보가 많으면 크기 k 의 최대 힙으로 골라서 전체 정렬을 피함
+         */
+        private static long[] smallest(long[] keys, int size, int k) {
+            if (k <= 0) {
+                return new long[0];
+            }
+            if (size <= k * 4L) {
+                long[] sorted = Arrays.copyOf(keys, size);
+                Arrays.sort(sorted);
+                return sorted.length > k ? Arrays.copyOf(sorted, k) : sorted;
+            }
+            long[] heap = Arrays.copyOf(keys, k);
+            for (int i = k / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, k);
+            }
+            for (int i = k; i < size; i++) {
+                if (keys[i] < heap[0]) {
+                    heap[0] = keys[i];
+                    siftDown(heap, 0, k);
+                }
+            }
+            Arrays.sort(heap);
+            return heap;
+        }
+
+        private static void siftDown(long[] heap, int i, int size) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] > heap[largest]) {
+                    largest = left;
+                }
+                if (right < size && heap[right] > heap[largest]) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                long tmp = heap[i];
+                heap[i] = heap[largest];
+                heap[largest] = tmp;
+                i = largest;
+            }
+        }
+
+        private static int[] insert(int[] slots, int[] single) {
+            int slot = single[0];
+            int idx = Arrays.binarySearch(slots, slot);
+            if (idx >= 0) {
+                return slots;
+            }
+            int at = -idx - 1;
+            int[] inserted = new int[slots.length + 1];
+            System.arraycopy(slots, 0, inserted, 0, at);
+            inserted[at] = slot;
+            System.arraycopy(slots, at, inserted, at + 1, slots.length - at);
+            return inserted;
+        }
+
+        // 비면 null 을 돌려줘서 map 에서 gram 자체를 제거
+        private static int[] delete(int[] slots, int slot) {
+            int idx = Arrays.binarySearch(slots, slot);
+            if (idx < 0) {
+                return slots;
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            int[] removed = new int[slots.length - 1];
+            System.arraycopy(slots, 0, removed, 0, idx);
+            System.arraycopy(slots, idx + 1, removed, idx, slots.length - idx - 1);
+            return removed;
+        }
+    }
+
+    private static final class PostingBuffer {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+}
@@ -14,14 +14,26 @@ import org.springframework.web.server.ResponseStatusException;
 public class FoodService {
 
     private final FoodMapper foodMapper;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodNutrientCache foodNutrientCache;
 
-    public FoodService(FoodMapper foodMapper) {
+    public FoodService(FoodMapper foodMapper, FoodSearchIndex foodSearchIndex, FoodNutrientCache foodNutrientCache) {
         this.foodMapper = foodMapper;
+        this.foodSearchIndex = foodSearchIndex;
+        this.foodNutrientCache = foodNutrientCache;
     }
 
     @Transactional
     public void createFood(CreateFoodRequest request) {
         foodMapper.insertFood(request);
+        foodSearchIndex.putAfterCommit(FoodDto.builder()
+                .id(request.getId())
+                .name(request.getName())
+                .carbohydrate(request.getCarbohydrate())
+                .protein(request.getProtein())
+                .fat(request.getFat())
+                .calories(request.getCalories())
+                .build());
     }
 
     @Transactional
@@ -30,6 +42,9 @@ public class FoodService {
         if (updated == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Food not found");
         }
+        // 일부 필드만 바뀔 수 있으므로 수정된 행을 다시 읽어서 인덱스에 반영
+        foodSearchIndex.putAfterCommit(foodMapper.selectFoodById(id));
+        foodNutrientCache.evictAfterCommit(id);
     }
 
     @Transactional
@@ -38,6 +53,8 @@ public class FoodService {
         if (deleted == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Food not found");
         }
+        foodSearchIndex.removeAfterCommit(id);
+        foodNutrientCache.evictAfterCommit(id);
     }
 
     @Transactional(readOnly = true)
@@ -49,11 +66,13 @@ public class FoodService {
         return food;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 음식 검색 : FoodSearchIndex (부분 일치 / 앞부분 일치 / 초성) 순위순, keyword 가 없으면 최신순
+     */
     public List<FoodDto> getFoods(String keyword, int page, int size) {
         int offset = Math.max(page, 0) * Math.max(size, 1);
         int limit = Math.max(size, 1);
-        return foodMapper.selectFoods(keyword, offset, limit);
+        return foodSearchIndex.search(keyword, offset, limit);
     }
 }
 
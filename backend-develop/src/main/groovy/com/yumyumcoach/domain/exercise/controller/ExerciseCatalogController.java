@@ -0,0 +1,25 @@
+package com.yumyumcoach.domain.exercise.controller;
+
+import com.yumyumcoach.domain.exercise.service.ExerciseCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운동 카탈로그 재적재 (운영용, exercises 를 직접 수정한 뒤 바로 반영할 때).
+ * - /api/internal/** 이므로 ROLE_ADMIN 만 호출 가능 (SecurityConfig)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/internal/exercise-catalog")
+public class ExerciseCatalogController {
+    private final ExerciseCatalog exerciseCatalog;
+
+    // 적재된 운동 수 반환
+    @PostMapping("/reload")
+    public ResponseEntity<Integer> reload() {
+        return ResponseEntity.ok(exerciseCatalog.reload());
+    }
+}
@@ -27,10 +27,11 @@ public class MyExerciseRecordController {
     @GetMapping
     public List<ExerciseRecordResponse> getMyExerciseRecords(
             @RequestParam("date")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recordDate
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recordDate,
+            @RequestParam(value = "period", required = false) String period
     ) {
         String email = CurrentUser.email();
-        return exerciseService.getMyExerciseRecords(email, recordDate);
+        return exerciseService.getMyExerciseRecords(email, recordDate, period);
     }
 
     @GetMapping("/{recordId}")
@@ -0,0 +1,22 @@
+package com.yumyumcoach.domain.exercise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 운동 시간 / 소모 칼로리 합계.
+ * - 운동 기록이 없는 날은 행이 없음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyExerciseTotal {
+    private LocalDate recordDate;
+    private double durationMinutes;
+    private double calories;
+}
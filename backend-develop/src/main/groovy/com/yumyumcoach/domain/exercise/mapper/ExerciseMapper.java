@@ -2,7 +2,6 @@ package com.yumyumcoach.domain.exercise.mapper;
 
 import com.yumyumcoach.domain.exercise.entity.Exercise;
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -10,5 +9,6 @@ import java.util.List;
 public interface ExerciseMapper {
     List<Exercise> findAll();
 
-    Exercise findById(@Param("exerciseId") Long exerciseId);
+    // 카탈로그 버전 (행 수 - 최대 id - 내용 체크섬)
+    String findCatalogVersion();
 }
@@ -1,5 +1,6 @@
 package com.yumyumcoach.domain.exercise.mapper;
 
+import com.yumyumcoach.domain.exercise.dto.DailyExerciseTotal;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecord;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecordWithExercise;
 import org.apache.ibatis.annotations.Mapper;
@@ -13,15 +14,38 @@ public interface ExerciseRecordMapper {
     ExerciseRecordWithExercise findDetailByIdAndEmail(@Param("recordId") Long recordId,
                                                       @Param("email") String email);
 
-    List<ExerciseRecordWithExercise> findByEmailAndDate(@Param("email") String email,
-                                                        @Param("recordDate") LocalDate recordDate);
+    // 기간 [startDate, endDate) 조회
+    List<ExerciseRecordWithExercise> findByEmailAndDateRange(@Param("email") String email,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    // 기간 [startDate, endDate) 날짜별 합계 (기록이 없는 날은 행 없음)
+    List<DailyExerciseTotal> findDailyTotals(@Param("email") String email,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    // 여러 건 상세 조회 (id 오름차순)
+    List<ExerciseRecordWithExercise> findDetailsByIdsAndEmail(@Param("recordIds") List<Long> recordIds,
+                                                              @Param("email") String email);
 
     void insert(ExerciseRecord exerciseRecord);
 
+    // 여러 건 한 번에 INSERT (생성된 id 가 각 record.id 에 채워짐)
+    void insertBatch(@Param("records") List<ExerciseRecord> records);
+
     void update(ExerciseRecord exerciseRecord);
 
+    // 기간 [startDate, endDate) 기록 칼로리를 몸무게 기준으로 다시 계산 (값이 바뀐 행 수)
+    int recomputeCalories(@Param("email") String email,
+                          @Param("weight") double weight,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate);
+
     void delete(@Param("recordId") Long recordId, @Param("email") String email);
 
     // 추가: recordId로 소유자(email) 조회
     String findEmailByRecordId(@Param("recordId") Long recordId);
+
+    // 본인 기록의 날짜 (수정 / 삭제 전 주간 통계 무효화용)
+    LocalDate findRecordDate(@Param("recordId") Long recordId, @Param("email") String email);
 }
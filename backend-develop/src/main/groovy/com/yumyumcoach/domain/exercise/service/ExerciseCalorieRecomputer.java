@@ -0,0 +1,84 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.domain.user.entity.Profile;
+import com.yumyumcoach.domain.user.mapper.ProfileMapper;
+import com.yumyumcoach.global.common.DateRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 몸무게가 바뀐 사용자의 운동 기록 칼로리(exercise_records.calories) 재계산.
+ * - 운동 기록마다 읽고 쓰지 않고 exercises.met 와 JOIN 한 UPDATE 한 번으로 기간 안의 기록을 다시 계산
+ * - 기록이 많은 사용자를 위해 기간을 CHUNK_DAYS 일씩 나눠서 최근 구간부터 실행 (구간마다 따로 커밋, 잠금 시간 제한)
+ * - 실행 시점의 프로필 몸무게를 읽으므로 연달아 수정돼도 마지막 몸무게로 맞춰짐
+ * - 끝나면 사용자의 주간 통계 캐시를 모두 무효화
+ */
+@Slf4j
+@Component
+public class ExerciseCalorieRecomputer {
+    static final int CHUNK_DAYS = 30;
+
+    private final ExerciseRecordMapper exerciseRecordMapper;
+    private final ProfileMapper profileMapper;
+    private final WeeklyStatsCache weeklyStatsCache;
+    private final int windowDays;
+
+    public ExerciseCalorieRecomputer(ExerciseRecordMapper exerciseRecordMapper,
+                                     ProfileMapper profileMapper,
+                                     WeeklyStatsCache weeklyStatsCache,
+                                     @Value("${exercise.calorie-recompute.window-days:365}") int windowDays) {
+        this.exerciseRecordMapper = exerciseRecordMapper;
+        this.profileMapper = profileMapper;
+        this.weeklyStatsCache = weeklyStatsCache;
+        this.windowDays = windowDays;
+    }
+
+    /**
+     * 최근 windowDays 일 운동 기록 칼로리 재계산
+     */
+    @Async
+    public void recompute(String email) {
+        try {
+            Profile profile = profileMapper.findByEmail(email);
+            if (profile == null) {
+                return;
+            }
+            double weight = profile.getCurrentWeight() == null ? ExerciseService.DEFAULT_WEIGHT : profile.getCurrentWeight();
+
+            int updated = 0;
+            for (DateRange chunk : chunksOf(LocalDate.now(), windowDays)) {
+                updated += exerciseRecordMapper.recomputeCalories(email, weight, chunk.start(), chunk.end());
+            }
+            log.info("운동 칼로리 재계산 - email: {}, weight: {}, updated: {}", email, weight, updated);
+        } catch (RuntimeException e) {
+            log.warn("운동 칼로리 재계산 실패 - email: {}", email, e);
+        }
+        // 중간에 실패해도 이미 커밋된 구간이 있을 수 있으므로 항상 무효화
+        weeklyStatsCache.evictUserAfterCommit(email);
+    }
+
+    /**
+     * [today - windowDays, today] 를 최근 구간부터 CHUNK_DAYS 일씩
+     */
+    static List<DateRange> chunksOf(LocalDate today, int windowDays) {
+        LocalDate from = today.minusDays(windowDays);
+        List<DateRange> chunks = new ArrayList<>();
+        for (LocalDate end = today.plusDays(1); end.isAfter(from); ) {
+            LocalDate start = end.minusDays(CHUNK_DAYS);
+            if (start.isBefore(from)) {
+                start = from;
+            }
+            chunks.add(new DateRange(start, end));
+            end = start;
+        }
+        return chunks;
+    }
+}
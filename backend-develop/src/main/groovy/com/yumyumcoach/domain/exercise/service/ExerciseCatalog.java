@@ -0,0 +1,130 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.dto.ExerciseResponse;
+import com.yumyumcoach.domain.exercise.entity.Exercise;
+import com.yumyumcoach.domain.exercise.mapper.ExerciseMapper;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 운동 기본 정보(exercises) 메모리 스냅샷.
+ * - 시작 시 전체를 읽어서 id 오름차순 배열(id / MET)과 목록 응답으로 만들어 두고 통째로 교체 (스냅샷 자체는 불변)
+ * - MET 조회는 id 배열 이진 탐색이라 조회마다 객체를 만들지 않음
+ * - 관리자 재적재(reload) 또는 주기적인 버전(행 수 / 최대 id / 내용 체크섬) 비교로 바뀐 경우에만 다시 읽음
+ */
+@Slf4j
+@Component
+public class ExerciseCatalog {
+    private final ExerciseMapper exerciseMapper;
+
+    private volatile Snapshot snapshot;
+
+    public ExerciseCatalog(ExerciseMapper exerciseMapper) {
+        this.exerciseMapper = exerciseMapper;
+    }
+
+    /**
+     * 전체 운동 목록 (id 오름차순, 스냅샷이 가진 불변 리스트를 그대로 반환)
+     */
+    public List<ExerciseResponse> exercises() {
+        return current().responses();
+    }
+
+    /**
+     * 운동 MET (없는 운동이면 EXERCISE_NOT_FOUND)
+     */
+    public double metOf(long exerciseId) {
+        Snapshot current = current();
+        int idx = Arrays.binarySearch(current.ids(), exerciseId);
+        if (idx < 0) {
+            throw new BusinessException(ErrorCode.EXERCISE_NOT_FOUND);
+        }
+        return current.mets()[idx];
+    }
+
+    /**
+     * exercises 전체를 다시 읽어서 스냅샷 교체 (관리자 재적재)
+     */
+    public synchronized int reload() {
+        // 버전을 먼저 읽어서, 읽는 도중 바뀐 내용은 다음 버전 확인에서 다시 적재되게 함
+        String version = exerciseMapper.findCatalogVersion();
+        Snapshot loaded = Snapshot.of(version, exerciseMapper.findAll());
+        snapshot = loaded;
+        log.info("운동 카탈로그 적재 - exercises: {}, version: {}", loaded.ids().length, version);
+        return loaded.ids().length;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 첫 조회 때 다시 시도
+            log.warn("운동 카탈로그 시작 적재 실패", e);
+        }
+    }
+
+    /**
+     * 버전이 바뀌었을 때만 다시 적재 (다른 인스턴스나 DB 에서 직접 바꾼 경우)
+     */
+    @Scheduled(initialDelayString = "${exercise.catalog.version-check-interval-ms:60000}",
+            fixedDelayString = "${exercise.catalog.version-check-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Snapshot current = snapshot;
+        try {
+            if (current == null || !Objects.equals(current.version(), exerciseMapper.findCatalogVersion())) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.warn("운동 카탈로그 버전 확인 실패, 기존 스냅샷을 계속 사용합니다.", e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(String version, long[] ids, double[] mets, List<ExerciseResponse> responses) {
+        static Snapshot of(String version, List<Exercise> exercises) {
+            List<Exercise> sorted = exercises.stream()
+                    .sorted(Comparator.comparing(Exercise::getId))
+                    .toList();
+            long[] ids = new long[sorted.size()];
+            double[] mets = new double[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = sorted.get(i).getId();
+                mets[i] = sorted.get(i).getMet() == null ? 0.0 : sorted.get(i).getMet();
+            }
+            List<ExerciseResponse> responses = sorted.stream()
+                    .map(exercise -> ExerciseResponse.builder()
+                            .exerciseId(exercise.getId())
+                            .name(exercise.getName())
+                            .met(exercise.getMet())
+                            .intensityLevel(exercise.getIntensityLevel())
+                            .type(exercise.getType())
+                            .description(exercise.getDescription())
+                            .build())
+                    .toList();
+            return new Snapshot(version, ids, mets, responses);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.yumyumcoach.domain.exercise.service;
 
 import com.yumyumcoach.domain.exercise.dto.*;
-import com.yumyumcoach.domain.exercise.entity.Exercise;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecord;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecordWithExercise;
-import com.yumyumcoach.domain.exercise.mapper.ExerciseMapper;
 import com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
 import com.yumyumcoach.domain.user.entity.Profile;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
+import com.yumyumcoach.global.common.DatePeriod;
+import com.yumyumcoach.global.common.DateRange;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -16,29 +17,46 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ExerciseService {
-    private final ExerciseMapper exerciseMapper;
+    // 몸무게가 지정이 안되어있으면 기본값인 60으로 계산
+    static final double DEFAULT_WEIGHT = 60.0;
+
+    private final ExerciseCatalog exerciseCatalog;
     private final ExerciseRecordMapper exerciseRecordMapper;
     private final ProfileMapper profileMapper;
+    private final WeeklyStatsCache weeklyStatsCache;
 
     public List<ExerciseResponse> getExercises() {
-        return exerciseMapper.findAll().stream()
-                .map(this::toExerciseResponse)
-                .toList();
+        return exerciseCatalog.exercises();
     }
 
-    public List<ExerciseRecordResponse> getMyExerciseRecords(String email, java.time.LocalDate recordDate) {
-        return exerciseRecordMapper.findByEmailAndDate(email, recordDate).stream()
+    /**
+     * 기준 날짜가 속한 하루 / 주 / 달(period)의 운동 기록 (period 가 없으면 하루)
+     */
+    public List<ExerciseRecordResponse> getMyExerciseRecords(String email, java.time.LocalDate recordDate, String period) {
+        DateRange range = DatePeriod.resolve(period).rangeOf(recordDate);
+        return exerciseRecordMapper.findByEmailAndDateRange(email, range.start(), range.end()).stream()
                 .map(this::toExerciseRecordResponse)
                 .toList();
     }
 
+    /**
+     * 기간 [start, end) 날짜별 운동 시간 / 칼로리 합계 (쿼리 1번, 기록이 없는 날은 빠짐)
+     */
+    public List<DailyExerciseTotal> getDailyExerciseTotals(String email, DateRange range) {
+        return exerciseRecordMapper.findDailyTotals(email, range.start(), range.end());
+    }
+
     public ExerciseRecordResponse getMyExerciseRecordDetail(String email, Long recordId) {
         checkRecordOwnerOrThrow(email, recordId);
 
@@ -49,18 +67,47 @@ public class ExerciseService {
         return toExerciseRecordResponse(record);
     }
 
+    /**
+     * 운동 기록 여러 건 생성
+     * - 프로필(몸무게) 1번 조회, MET 는 ExerciseCatalog 에서 찾고 한 번의 multi-row INSERT, 저장 결과는 id 목록으로 한 번에 다시 읽음
+     * - 요청 개수와 관계없이 쿼리 3번
+     */
     @Transactional
     public List<ExerciseRecordResponse> createMyExerciseRecords(String email, List<ExerciseRecordRequest> requests) {
-        return requests.stream()
-                .map(req -> createExerciseRecord(email, req))
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        double weight = currentWeightOf(email);
+        List<ExerciseRecord> records = requests.stream()
+                .map(request -> ExerciseRecord.builder()
+                        .email(email)
+                        .exerciseId(request.getExerciseId())
+                        .recordDate(request.getRecordDate())
+                        .durationMinutes(request.getDurationMinutes())
+                        .calories(caloriesOf(
+                                exerciseCatalog.metOf(request.getExerciseId()), weight, request.getDurationMinutes()))
+                        .build())
+                .toList();
+        exerciseRecordMapper.insertBatch(records);
+        weeklyStatsCache.evictAfterCommit(email, records.stream().map(ExerciseRecord::getRecordDate).toList());
+
+        Map<Long, ExerciseRecordWithExercise> saved = exerciseRecordMapper.findDetailsByIdsAndEmail(
+                        records.stream().map(ExerciseRecord::getId).toList(), email)
+                .stream()
+                .collect(Collectors.toMap(ExerciseRecordWithExercise::getId, Function.identity()));
+        // 요청 순서대로 응답
+        return records.stream()
+                .map(record -> toExerciseRecordResponse(saved.get(record.getId())))
                 .toList();
     }
 
     @Transactional
     public ExerciseRecordResponse updateMyExerciseRecord(String email, Long recordId, ExerciseRecordRequest request) {
         checkRecordOwnerOrThrow(email, recordId);
+        LocalDate previousDate = exerciseRecordMapper.findRecordDate(recordId, email);
 
-        double calories = calculateCalories(email, request.getExerciseId(), request.getDurationMinutes());
+        double calories = caloriesOf(
+                exerciseCatalog.metOf(request.getExerciseId()), currentWeightOf(email), request.getDurationMinutes());
 
         ExerciseRecord exerciseRecord = ExerciseRecord.builder()
                 .id(recordId)
@@ -72,6 +119,8 @@ public class ExerciseService {
                 .build();
 
         exerciseRecordMapper.update(exerciseRecord);
+        // 이전 날짜와 바뀐 날짜의 주 모두
+        weeklyStatsCache.evictAfterCommit(email, previousDate, request.getRecordDate());
         return getMyExerciseRecordDetail(email, recordId);
     }
 
@@ -79,7 +128,9 @@ public class ExerciseService {
     public DeleteExerciseRecordResponse deleteMyExerciseRecord(String email, Long recordId) {
         checkRecordOwnerOrThrow(email, recordId);
 
+        LocalDate recordDate = exerciseRecordMapper.findRecordDate(recordId, email);
         exerciseRecordMapper.delete(recordId, email);
+        weeklyStatsCache.evictAfterCommit(email, recordDate);
 
         return DeleteExerciseRecordResponse.builder()
                 .recordId(recordId)
@@ -102,41 +153,29 @@ public class ExerciseService {
         }
     }
 
-    private double calculateCalories(String email, Long exerciseId, Double durationMinutes) {
-        Exercise exercise = exerciseMapper.findById(exerciseId);
-        if (exercise == null) {
-            throw new BusinessException(ErrorCode.EXERCISE_NOT_FOUND);
-        }
-
+    private double currentWeightOf(String email) {
         Profile profile = profileMapper.findByEmail(email);
         if (profile == null) {
             throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
         }
         Double currentWeight = profile.getCurrentWeight();
-        if (currentWeight == null) {
-            // 몸무게가 지정이 안되어있으면 기본값인 60으로 계산
-            currentWeight = 60.0;
-        }
+        return currentWeight == null ? DEFAULT_WEIGHT : currentWeight;
+    }
 
-        double durationHours = durationMinutes / 60.0;
-        double rawCalories = exercise.getMet() * currentWeight * durationHours;
+    /**
+     * MET x 몸무게(kg) x 시간(h), 소수 둘째 자리 반올림
+     * - ExerciseRecordMapper.recomputeCalories 와 같은 값이어야 함 : 같은 순서로 DOUBLE 계산 후
+     *   DECIMAL(16, 6) 으로 바꾸고(CAST) 다시 둘째 자리로 ROUND 하는 두 단계를 그대로 따라 함
+     */
+    static double caloriesOf(double met, double weight, double durationMinutes) {
+        double rawCalories = met * weight * durationMinutes / 60;
 
         return BigDecimal.valueOf(rawCalories)
+                .setScale(6, RoundingMode.HALF_UP)
                 .setScale(2, RoundingMode.HALF_UP)
                 .doubleValue();
     }
 
-    private ExerciseResponse toExerciseResponse(Exercise exercise) {
-        return ExerciseResponse.builder()
-                .exerciseId(exercise.getId())
-                .name(exercise.getName())
-                .met(exercise.getMet())
-                .intensityLevel(exercise.getIntensityLevel())
-                .type(exercise.getType())
-                .description(exercise.getDescription())
-                .build();
-    }
-
     private ExerciseRecordResponse toExerciseRecordResponse(ExerciseRecordWithExercise record) {
         return ExerciseRecordResponse.builder()
                 .recordId(record.getId())
@@ -150,20 +189,4 @@ public class ExerciseService {
                 .calories(record.getCalories())
                 .build();
     }
-
-    private ExerciseRecordResponse createExerciseRecord(String email, ExerciseRecordRequest request) {
-        double calories = calculateCalories(email, request.getExerciseId(), request.getDurationMinutes());
-
-        ExerciseRecord exerciseRecord = ExerciseRecord.builder()
-                .email(email)
-                .exerciseId(request.getExerciseId())
-                .recordDate(request.getRecordDate())
-                .durationMinutes(request.getDurationMinutes())
-                .calories(calories)
-                .build();
-
-        exerciseRecordMapper.insert(exerciseRecord);
-        return getMyExerciseRecordDetail(email, exerciseRecord.getId());
-    }
 }
-
@@ -0,0 +1,137 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.dto.WeeklyStatsResponse;
+import com.yumyumcoach.global.cache.CacheMetrics;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * (사용자, 주 시작일(월요일)) -> 주간 통계 캐시.
+ * - 식단 / 운동 기록 생성 / 수정 / 삭제 시 기록 날짜가 속한 주만 커밋 후 무효화
+ * - 지난 주는 거의 바뀌지 않으므로 이번 주보다 훨씬 길게 보관 (다른 인스턴스에서 바뀐 값은 TTL 로 맞춤)
+ * - 조회 도중 같은 사용자의 무효화가 일어났으면 조회 결과는 캐시에 넣지 않음 (사용자별 generation 비교)
+ */
+@Component
+public class WeeklyStatsCache {
+    private static final long CURRENT_WEEK_TTL_MILLIS = 60_000L;
+    private static final long PAST_WEEK_TTL_MILLIS = 6 * 60 * 60_000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<WeekKey, CachedStats> stats = new ConcurrentHashMap<>();
+    // 사용자별 마지막 무효화 순번. 비울 때는 clearedAt 을 먼저 올려서 비워진 사용자도 값이 바뀐 것으로 보이게 함
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long clearedAt;
+    private final CacheMetrics metrics;
+
+    public WeeklyStatsCache(CacheMetricsRegistry cacheMetricsRegistry) {
+        this.metrics = cacheMetricsRegistry.register("weeklyStats");
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없거나 만료됐으면 loader 로 계산해서 보관
+     */
+    public WeeklyStatsResponse get(String email, LocalDate weekStart, Supplier<WeeklyStatsResponse> loader) {
+        WeekKey key = new WeekKey(email, weekStart);
+        long now = System.currentTimeMillis();
+        CachedStats cached = stats.get(key);
+        if (cached != null && now < cached.expiresAt()) {
+            metrics.recordHit(now - cached.loadedAt());
+            return cached.response();
+        }
+        metrics.recordMiss();
+
+        long loadedGeneration = generationOf(email);
+        WeeklyStatsResponse response = loader.get();
+        if (generationOf(email) == loadedGeneration) {
+            if (stats.size() >= MAX_ENTRIES) {
+                metrics.recordEvictions(stats.size());
+                stats.clear();
+            }
+            stats.put(key, new CachedStats(response, now, now + ttlOf(weekStart)));
+        }
+        return response;
+    }
+
+    /**
+     * 기록 날짜들이 속한 주 무효화 (수정은 이전 날짜와 바뀐 날짜 모두 전달)
+     */
+    public void evictAfterCommit(String email, LocalDate... recordDates) {
+        evictAfterCommit(email, Arrays.asList(recordDates));
+    }
+
+    public void evictAfterCommit(String email, Collection<LocalDate> recordDates) {
+        Set<LocalDate> weekStarts = recordDates.stream()
+                .filter(Objects::nonNull)
+                .map(WeeklyStatsCache::weekStartOf)
+                .collect(Collectors.toSet());
+        if (weekStarts.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            bumpGeneration(email);
+            for (LocalDate weekStart : weekStarts) {
+                if (stats.remove(new WeekKey(email, weekStart)) != null) {
+                    metrics.recordEvictions(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 사용자의 모든 주 무효화 (칼로리 일괄 재계산처럼 날짜를 특정하기 어려운 경우)
+     */
+    public void evictUserAfterCommit(String email) {
+        AfterCommit.run(() -> {
+            bumpGeneration(email);
+            stats.keySet().removeIf(key -> {
+                if (key.email().equals(email)) {
+                    metrics.recordEvictions(1);
+                    return true;
+                }
+                return false;
+            });
+        });
+    }
+
+    private long generationOf(String email) {
+        Long generation = generations.get(email);
+        return generation != null ? generation : clearedAt;
+    }
+
+    private void bumpGeneration(String email) {
+        if (generations.size() >= MAX_ENTRIES) {
+            clearedAt = sequence.incrementAndGet();
+            generations.clear();
+        }
+        generations.put(email, sequence.incrementAndGet());
+    }
+
+    private long ttlOf(LocalDate weekStart) {
+        return weekStart.isBefore(weekStartOf(LocalDate.now())) ? PAST_WEEK_TTL_MILLIS : CURRENT_WEEK_TTL_MILLIS;
+    }
+
+    private record WeekKey(String email, LocalDate weekStart) {
+    }
+
+    private record CachedStats(WeeklyStatsResponse response, long loadedAt, long expiresAt) {
+    }
+}
@@ -1,45 +1,80 @@
 package com.yumyumcoach.domain.stats.service;
 
-import com.yumyumcoach.domain.diet.dto.DietFoodDto;
-import com.yumyumcoach.domain.diet.dto.DietRecordDto;
+import com.yumyumcoach.domain.diet.dto.DailyNutritionTotal;
 import com.yumyumcoach.domain.diet.service.DietRecordService;
-import com.yumyumcoach.domain.exercise.dto.ExerciseRecordResponse;
+import com.yumyumcoach.domain.exercise.dto.DailyExerciseTotal;
 import com.yumyumcoach.domain.exercise.service.ExerciseService;
 import com.yumyumcoach.domain.stats.dto.DailyDietStat;
 import com.yumyumcoach.domain.stats.dto.DailyExerciseStat;
 import com.yumyumcoach.domain.stats.dto.WeeklyStatsResponse;
-import lombok.RequiredArgsConstructor;
+import com.yumyumcoach.global.common.DateRange;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 통계 조회.
+ * - 클래스에 트랜잭션을 걸지 않음 : 캐시 적중 시에는 커넥션을 잡지 않고, 적재할 때만 새 읽기 전용 트랜잭션으로 조회
+ * - 호출 쪽 트랜잭션(AI 서비스 등)에 합류하면 캐시 무효화보다 먼저 시작된 스냅샷을 읽어 지난 값을 캐시할 수 있으므로
+ *   적재는 항상 REQUIRES_NEW (스냅샷이 WeeklyStatsCache 의 generation 확인 뒤에 시작됨)
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class WeeklyStatsService {
-    private static final int MAX_RECORDS_PER_DAY = 1000;
-
     private final DietRecordService dietRecordService;
     private final ExerciseService exerciseService;
+    private final WeeklyStatsCache weeklyStatsCache;
+    private final TransactionTemplate loadTransaction;
+
+    public WeeklyStatsService(DietRecordService dietRecordService,
+                              ExerciseService exerciseService,
+                              WeeklyStatsCache weeklyStatsCache,
+                              PlatformTransactionManager transactionManager) {
+        this.dietRecordService = dietRecordService;
+        this.exerciseService = exerciseService;
+        this.weeklyStatsCache = weeklyStatsCache;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
 
+    /**
+     * 주간(월~일) 식단 / 운동 통계
+     * - (사용자, 주) 단위로 WeeklyStatsCache 에 보관, 기록이 바뀌면 해당 주만 무효화됨
+     * - 식단 1번, 운동 1번 날짜별 합계(GROUP BY record_date) 쿼리로 조회하고 기록이 없는 날은 0으로 채움
+     */
     public WeeklyStatsResponse getWeeklyStats(String email, LocalDate baseDate) {
-        LocalDate startDate = toWeekStart(baseDate);
+        LocalDate startDate = WeeklyStatsCache.weekStartOf(baseDate);
+        return weeklyStatsCache.get(email, startDate,
+                () -> loadTransaction.execute(status -> loadWeeklyStats(email, startDate)));
+    }
+
+    private WeeklyStatsResponse loadWeeklyStats(String email, LocalDate startDate) {
         LocalDate endDate = startDate.plusDays(6);
+        DateRange week = new DateRange(startDate, startDate.plusDays(7));
+
+        Map<LocalDate, DailyNutritionTotal> nutritionByDate = dietRecordService
+                .getDailyNutritionTotals(email, week).stream()
+                .collect(Collectors.toMap(DailyNutritionTotal::getRecordDate, Function.identity()));
+        Map<LocalDate, DailyExerciseTotal> exerciseByDate = exerciseService
+                .getDailyExerciseTotals(email, week).stream()
+                .collect(Collectors.toMap(DailyExerciseTotal::getRecordDate, Function.identity()));
 
         List<DailyDietStat> dietStats = new ArrayList<>();
         List<DailyExerciseStat> exerciseStats = new ArrayList<>();
 
         for (int i = 0; i < 7; i++) {
             LocalDate current = startDate.plusDays(i);
-            dietStats.add(calculateDietStat(email, current));
-            exerciseStats.add(calculateExerciseStat(email, current));
+            dietStats.add(toDietStat(current, nutritionByDate.get(current)));
+            exerciseStats.add(toExerciseStat(current, exerciseByDate.get(current)));
         }
 
         return WeeklyStatsResponse.builder()
@@ -50,55 +85,28 @@ public class WeeklyStatsService {
                 .build();
     }
 
-    private DailyDietStat calculateDietStat(String email, LocalDate date) {
-        List<DietRecordDto> diets = dietRecordService.getMyDiets(email, date, 0, MAX_RECORDS_PER_DAY);
-        double carbs = 0;
-        double protein = 0;
-        double fat = 0;
-        double calories = 0;
-
-        for (DietRecordDto diet : diets) {
-            List<DietFoodDto> items = Optional.ofNullable(diet.getItems()).orElseGet(Collections::emptyList);
-            for (DietFoodDto item : items) {
-                carbs += Optional.ofNullable(item.getCarbs()).orElse(0.0);
-                protein += Optional.ofNullable(item.getProtein()).orElse(0.0);
-                fat += Optional.ofNullable(item.getFat()).orElse(0.0);
-                calories += Optional.ofNullable(item.getCalories()).orElse(0.0);
-            }
-        }
-
+    // 식단 기록이 없는 날(total == null)은 0
+    private DailyDietStat toDietStat(LocalDate date, DailyNutritionTotal total) {
         return DailyDietStat.builder()
                 .date(date)
                 .dayOfWeekKr(toKoreanDay(date))
-                .totalCarbohydrate(roundOneDecimal(carbs))
-                .totalProtein(roundOneDecimal(protein))
-                .totalFat(roundOneDecimal(fat))
-                .totalCalories(roundOneDecimal(calories))
+                .totalCarbohydrate(total == null ? 0 : roundOneDecimal(total.getCarbohydrate()))
+                .totalProtein(total == null ? 0 : roundOneDecimal(total.getProtein()))
+                .totalFat(total == null ? 0 : roundOneDecimal(total.getFat()))
+                .totalCalories(total == null ? 0 : roundOneDecimal(total.getCalories()))
                 .build();
     }
 
-    private DailyExerciseStat calculateExerciseStat(String email, LocalDate date) {
-        List<ExerciseRecordResponse> exercises = exerciseService.getMyExerciseRecords(email, date);
-        double duration = 0;
-        double calories = 0;
-
-        for (ExerciseRecordResponse exercise : exercises) {
-            duration += Optional.ofNullable(exercise.getDurationMinutes()).orElse(0.0);
-            calories += Optional.ofNullable(exercise.getCalories()).orElse(0.0);
-        }
-
+    // 운동 기록이 없는 날(total == null)은 0
+    private DailyExerciseStat toExerciseStat(LocalDate date, DailyExerciseTotal total) {
         return DailyExerciseStat.builder()
                 .date(date)
                 .dayOfWeekKr(toKoreanDay(date))
-                .totalDurationMinutes(roundOneDecimal(duration))
-                .totalCalories(roundOneDecimal(calories))
+                .totalDurationMinutes(total == null ? 0 : roundOneDecimal(total.getDurationMinutes()))
+                .totalCalories(total == null ? 0 : roundOneDecimal(total.getCalories()))
                 .build();
     }
 
-    private LocalDate toWeekStart(LocalDate baseDate) {
-        return baseDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-    }
-
     private String toKoreanDay(LocalDate date) {
         return switch (date.getDayOfWeek()) {
             case MONDAY -> "월요일";
@@ -0,0 +1,17 @@
+package com.yumyumcoach.domain.user.dto;
+
+import lombok.*;
+
+/**
+ * 게시글/댓글 작성자 표시용 정보
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorCard {
+    private String email;           // accounts.email
+    private Long userId;            // accounts.id
+    private String username;        // accounts.username
+    private String profileImageUrl; // profiles.profile_image_url (캐시에는 CloudFront URL 로 변환해서 보관)
+}
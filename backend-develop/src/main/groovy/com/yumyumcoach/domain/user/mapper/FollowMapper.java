@@ -48,5 +48,21 @@ public interface FollowMapper {
      * 나를 팔로우하는 유저 목록
      */
     List<MyFollowersResponse.User> findMyFollowers(@Param("email") String email);
-}
 
+    /**
+     * 나를 팔로우하는 유저 이메일 (최대 limit 명)
+     */
+    List<String> findFollowerEmails(@Param("email") String email,
+                                    @Param("limit") int limit);
+
+    /**
+     * 팔로워가 minFollowers 명 이상인 유저 이메일
+     */
+    List<String> findEmailsWithFollowersAtLeast(@Param("minFollowers") int minFollowers);
+
+    /**
+     * 후보 중 내가 팔로우하는 유저 이메일
+     */
+    List<String> findFolloweeEmailsIn(@Param("email") String email,
+                                      @Param("candidates") List<String> candidates);
+}
@@ -1,9 +1,12 @@
 package com.yumyumcoach.domain.user.mapper;
 
+import com.yumyumcoach.domain.user.dto.AuthorCard;
 import com.yumyumcoach.domain.user.entity.Profile;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface ProfileMapper {
 
@@ -12,6 +15,11 @@ public interface ProfileMapper {
      */
     Profile findByEmail(@Param("email") String email);
 
+    /**
+     * 여러 유저의 작성자 표시 정보 한 번에 조회 (accounts + profiles)
+     */
+    List<AuthorCard> findAuthorCards(@Param("emails") List<String> emails);
+
     /**
      * profiles row 생성 (email만)
      * - 회원가입 직후 1회 호출용
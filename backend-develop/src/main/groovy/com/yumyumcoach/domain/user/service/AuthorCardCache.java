@@ -0,0 +1,103 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.dto.AuthorCard;
+import com.yumyumcoach.domain.user.mapper.ProfileMapper;
+import com.yumyumcoach.global.cache.CacheMetrics;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.AfterCommit;
+import com.yumyumcoach.global.common.CdnUrlResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글/댓글 작성자 표시 정보(id, 닉네임, 프로필 이미지 CDN URL) 캐시.
+ * - 페이지 단위로 캐시에 없는 작성자만 모아서 accounts + profiles 한 번에 조회
+ * - 기본정보 수정 / 회원탈퇴 시 커밋 후 무효화
+ */
+@Component
+public class AuthorCardCache {
+    private static final long TTL_MILLIS = 10 * 60_000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ProfileMapper profileMapper;
+    private final CdnUrlResolver cdnUrlResolver;
+    private final CacheMetrics metrics;
+
+    private final Map<String, CachedCard> cards = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthorCardCache(ProfileMapper profileMapper,
+                           CdnUrlResolver cdnUrlResolver,
+                           CacheMetricsRegistry cacheMetricsRegistry) {
+        this.profileMapper = profileMapper;
+        this.cdnUrlResolver = cdnUrlResolver;
+        this.metrics = cacheMetricsRegistry.register("authorCards");
+    }
+
+    public AuthorCard get(String email) {
+        return getAll(List.of(email)).get(email);
+    }
+
+    /**
+     * 이메일 -> 작성자 정보 (탈퇴 등으로 계정이 없으면 결과에서 빠짐)
+     */
+    public Map<String, AuthorCard> getAll(Collection<String> emails) {
+        Map<String, AuthorCard> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (String email : new LinkedHashSet<>(emails)) {
+            if (email == null) {
+                continue;
+            }
+            CachedCard cached = cards.get(email);
+            if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+                metrics.recordHit(now - cached.loadedAt());
+                result.put(email, cached.card());
+            } else {
+                metrics.recordMiss();
+                missing.add(email);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadedGeneration = generation.get();
+            List<AuthorCard> loaded = profileMapper.findAuthorCards(missing);
+            if (cards.size() + loaded.size() > MAX_ENTRIES) {
+                metrics.recordEvictions(cards.size());
+                cards.clear();
+            }
+            for (AuthorCard row : loaded) {
+                AuthorCard card = row.toBuilder()
+                        .profileImageUrl(cdnUrlResolver.resolve(row.getProfileImageUrl()))
+                        .build();
+                result.put(card.getEmail(), card);
+                // 조회 도중 무효화가 있었으면 이번 결과는 보관하지 않음
+                if (generation.get() == loadedGeneration) {
+                    cards.put(card.getEmail(), new CachedCard(card, now));
+                }
+            }
+        }
+        return result;
+    }
+
+    public void evictAfterCommit(String email) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            if (cards.remove(email) != null) {
+                metrics.recordEvictions(1);
+            }
+        });
+    }
+
+    private record CachedCard(AuthorCard card, long loadedAt) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.yumyumcoach.domain.user.service;
 
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.domain.community.service.TimelineService;
 import com.yumyumcoach.domain.user.dto.*;
 import com.yumyumcoach.domain.user.entity.Follow;
 import com.yumyumcoach.domain.user.mapper.FollowMapper;
@@ -20,6 +21,7 @@ public class FollowService {
 
     private final AccountMapper accountMapper; // findEmailById 사용
     private final FollowMapper followMapper;
+    private final TimelineService timelineService;
 
     /**
      * 팔로우하기
@@ -47,6 +49,7 @@ public class FollowService {
                 .followeeEmail(targetEmail)
                 .followedAt(now)
                 .build());
+        timelineService.onFollow(myEmail, targetEmail);
 
         return FollowUserResponse.builder()
                 .targetUserId(targetUserId)
@@ -74,6 +77,7 @@ public class FollowService {
         if (deleted == 0) {
             throw new BusinessException(ErrorCode.FOLLOW_NOT_FOUND);
         }
+        timelineService.onUnfollow(myEmail, targetEmail);
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -2,6 +2,7 @@ package com.yumyumcoach.domain.user.service;
 
 import com.yumyumcoach.domain.auth.entity.Account;
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.domain.exercise.service.ExerciseCalorieRecomputer;
 import com.yumyumcoach.domain.user.dto.MyTitleResponse;
 import com.yumyumcoach.domain.user.dto.MyPageResponse;
 import com.yumyumcoach.domain.user.dto.UpdateMyBasicInfoRequest;
@@ -10,6 +11,7 @@ import com.yumyumcoach.domain.user.entity.Profile;
 import com.yumyumcoach.domain.user.mapper.FollowMapper;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.domain.user.mapper.UserTitleMapper;
+import com.yumyumcoach.global.common.AfterCommit;
 import com.yumyumcoach.global.common.CdnUrlResolver;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
@@ -28,6 +30,8 @@ public class UserService {
     private final FollowMapper followMapper;
     private final UserTitleMapper userTitleMapper;
     private final CdnUrlResolver cdnUrlResolver;
+    private final AuthorCardCache authorCardCache;
+    private final ExerciseCalorieRecomputer exerciseCalorieRecomputer;
 
     public MyPageResponse getMyPage(String email) {
 
@@ -101,6 +105,7 @@ public class UserService {
                 .build();
 
         profileMapper.updateBasic(patch);
+        authorCardCache.evictAfterCommit(email);
 
         Profile updated = profileMapper.findByEmail(email);
         Long userId = accountMapper.findIdByEmail(email);
@@ -142,6 +147,11 @@ public class UserService {
 
         profileMapper.updateHealth(patch);
 
+        // 몸무게가 바뀌면 기존 운동 기록 칼로리를 커밋 후 비동기로 다시 계산
+        if (req.getWeight() != null && !req.getWeight().equals(profile.getCurrentWeight())) {
+            AfterCommit.run(() -> exerciseCalorieRecomputer.recompute(email));
+        }
+
         Profile updated = profileMapper.findByEmail(email);
 
         return MyPageResponse.Health.builder()
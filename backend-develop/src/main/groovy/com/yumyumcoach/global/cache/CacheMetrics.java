@@ -0,0 +1,52 @@
+package com.yumyumcoach.global.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인메모리 캐시 하나의 적중률 / 무효화 / 신선도 지표.
+ * - staleness : 캐시에서 꺼내 준 값이 적재된 지 얼마나 지났는지 (ms)
+ */
+public class CacheMetrics {
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder servedAgeMillis = new LongAdder();
+    private final AtomicLong maxServedAgeMillis = new AtomicLong();
+
+    public CacheMetrics(String name) {
+        this.name = name;
+    }
+
+    public void recordHit(long ageMillis) {
+        hits.increment();
+        servedAgeMillis.add(ageMillis);
+        maxServedAgeMillis.accumulateAndGet(ageMillis, Math::max);
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordEvictions(long count) {
+        if (count > 0) {
+            evictions.add(count);
+        }
+    }
+
+    public CacheStats snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return CacheStats.builder()
+                .name(name)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRatio(requests == 0 ? 0.0 : (double) hitCount / requests)
+                .evictions(evictions.sum())
+                .avgStalenessMillis(hitCount == 0 ? 0L : servedAgeMillis.sum() / hitCount)
+                .maxStalenessMillis(maxServedAgeMillis.get())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.yumyumcoach.global.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 애플리케이션 안의 인메모리 캐시 지표 모음.
+ * - 각 캐시는 생성 시 이름으로 등록하고 받은 CacheMetrics 에 기록
+ */
+@Component
+public class CacheMetricsRegistry {
+    private final Map<String, CacheMetrics> metricsByName = new ConcurrentSkipListMap<>();
+
+    public CacheMetrics register(String name) {
+        return metricsByName.computeIfAbsent(name, CacheMetrics::new);
+    }
+
+    public List<CacheStats> snapshot() {
+        return metricsByName.values().stream()
+                .map(CacheMetrics::snapshot)
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package com.yumyumcoach.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 지표 조회 응답
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+    private String name;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long evictions;
+    private long avgStalenessMillis;
+    private long maxStalenessMillis;
+}
@@ -0,0 +1,25 @@
+package com.yumyumcoach.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 인메모리 캐시 지표 조회 (운영 확인용).
+ * - /api/internal/** 이므로 ROLE_ADMIN 만 호출 가능 (SecurityConfig)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/internal/caches")
+public class CacheStatsController {
+    private final CacheMetricsRegistry cacheMetricsRegistry;
+
+    // 캐시별 적중률 / 무효화 횟수 / 신선도
+    @GetMapping
+    public List<CacheStats> getCacheStats() {
+        return cacheMetricsRegistry.snapshot();
+    }
+}
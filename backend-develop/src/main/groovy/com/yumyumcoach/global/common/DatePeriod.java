@@ -0,0 +1,47 @@
+package com.yumyumcoach.global.common;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 기록 조회 기간 단위.
+ * - 기준 날짜가 속한 하루 / 주(월요일 시작) / 달을 [start, end) 범위로 변환
+ */
+public enum DatePeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public DateRange rangeOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> new DateRange(date, date.plusDays(1));
+            case WEEK -> {
+                LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                yield new DateRange(monday, monday.plusWeeks(1));
+            }
+            case MONTH -> {
+                LocalDate first = date.withDayOfMonth(1);
+                yield new DateRange(first, first.plusMonths(1));
+            }
+        };
+    }
+
+    /**
+     * 요청 period 값 -> 기간 단위 (비어 있으면 DAY)
+     */
+    public static DatePeriod resolve(String period) {
+        if (period == null || period.isBlank()) {
+            return DAY;
+        }
+        try {
+            return DatePeriod.valueOf(period.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 조회 기간입니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.yumyumcoach.global.common;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜 범위 [start, end).
+ * - 쿼리에서는 {@code record_date >= start AND record_date < end} 로 사용
+ *   (컬럼에 DATE() 같은 함수를 씌우지 않아야 (email, record_date) 인덱스 범위 조회가 됨)
+ */
+public record DateRange(LocalDate start, LocalDate end) {
+}
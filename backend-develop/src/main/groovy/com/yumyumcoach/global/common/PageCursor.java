@@ -0,0 +1,77 @@
+package com.yumyumcoach.global.common;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징용 continuation token.
+ * - (정렬 키, id) 쌍을 Base64 URL-safe 문자열로 인코딩해서 내려줌
+ * - 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려주기만 하면 됨
+ */
+public record PageCursor(String key, Long id) {
+    private static final String DELIMITER = "|";
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt.toString(), id);
+    }
+
+    /**
+     * 점수 커서 : 조회한 점수를 자릿수 손실 없이 그대로 담음 (다음 페이지에서 같은 값과 = 비교)
+     */
+    public static PageCursor of(BigDecimal score, Long id) {
+        return new PageCursor(score.toPlainString(), id);
+    }
+
+    /**
+     * ID 커서 : id 만으로 정렬되는 목록 (타임라인) 용. 다음 페이지는 id 만 비교하므로 키 자리는 고정값
+     * - 마지막 ID 의 게시글이 삭제돼서 작성 시각을 모를 때도 만들 수 있어야 함
+     */
+    public static PageCursor ofId(Long id) {
+        return new PageCursor("id", id);
+    }
+
+    public String encode() {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 -> 커서 변환
+     * - 형식이 깨진 토큰은 400
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+            }
+            return new PageCursor(raw.substring(0, idx), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public BigDecimal keyAsDecimal() {
+        try {
+            return new BigDecimal(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.yumyumcoach.global.jwt.JwtAuthenticationFilter;
 import com.yumyumcoach.global.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,6 +17,10 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -25,9 +30,14 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
-            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver,
+            @Value("${security.admin-emails:}") List<String> adminEmails
     ) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, resolver);
+        Set<String> admins = adminEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        return new JwtAuthenticationFilter(jwtTokenProvider, resolver, admins);
     }
 
     @Bean
@@ -44,6 +54,8 @@ public class SecurityConfig {
                                 "/api/auth/check-username",
                                 "/api/auth/sign-up",
                                 "/api/auth/refresh").permitAll()
+                        // 운영용 엔드포인트 (캐시 지표, 카탈로그 재적재 등) 는 운영자만
+                        .requestMatchers("/api/internal/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -11,6 +11,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,17 +21,24 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 import java.io.IOException;
 import java.security.SignatureException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 /*
 모든 요청이 들어올 때마다 JWT 를 검사하고 사용자 인증을 해줌
+운영자 이메일(security.admin-emails)로 로그인한 경우 ROLE_ADMIN 권한을 함께 줌 (/api/internal/** 접근용)
  */
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final GrantedAuthority ADMIN_AUTHORITY = new SimpleGrantedAuthority("ROLE_ADMIN");
+
     private final JwtTokenProvider jwtTokenProvider;
 
     private final HandlerExceptionResolver resolver;
 
+    private final Set<String> adminEmails;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
@@ -62,8 +71,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String email = jwtTokenProvider.getEmail(token);
 
             // SecurityContext 에 인증 정보 세팅
+            List<GrantedAuthority> authorities = adminEmails.contains(email)
+                    ? List.of(ADMIN_AUTHORITY)
+                    : Collections.emptyList();
             UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
+                    new UsernamePasswordAuthenticationToken(email, null, authorities);
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
@@ -0,0 +1,91 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.mapper.AccountPurgeMapper;
+import com.yumyumcoach.domain.community.service.PostLikeCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPurgeServiceTest {
+    private static final String EMAIL = "bye@yumyum.com";
+
+    @Mock
+    private AccountPurgeMapper accountPurgeMapper;
+    @Mock
+    private PostLikeCounter postLikeCounter;
+
+    @InjectMocks
+    private AccountPurgeService accountPurgeService;
+
+    @Test
+    void purgeComments_correctsCountersBeforeDeletingTheComments() {
+        List<Long> commentIds = List.of(10L, 11L);
+        when(accountPurgeMapper.findCommentIds(EMAIL, 500)).thenReturn(commentIds);
+
+        assertThat(accountPurgeService.purgeComments(EMAIL, 500)).isEqualTo(2);
+
+        // comment_count 감소는 post_comments 를 조인해서 계산하므로 댓글을 지우기 전에 수행
+        InOrder order = inOrder(accountPurgeMapper);
+        order.verify(accountPurgeMapper).decreaseCommentCounts(commentIds);
+        order.verify(accountPurgeMapper).refreshHotScores(commentIds);
+        order.verify(accountPurgeMapper).deleteComments(commentIds);
+    }
+
+    @Test
+    void purgeComments_writesNothingWhenNoCommentsLeft() {
+        when(accountPurgeMapper.findCommentIds(EMAIL, 500)).thenReturn(List.of());
+
+        assertThat(accountPurgeService.purgeComments(EMAIL, 500)).isZero();
+
+        verify(accountPurgeMapper, never()).decreaseCommentCounts(anyList());
+        verify(accountPurgeMapper, never()).deleteComments(anyList());
+    }
+
+    @Test
+    void purgeLikes_decrementsEachLikedPostThroughTheCounter() {
+        when(accountPurgeMapper.findLikedPostIds(EMAIL, 500)).thenReturn(List.of(1L, 2L));
+
+        assertThat(accountPurgeService.purgeLikes(EMAIL, 500)).isEqualTo(2);
+
+        InOrder order = inOrder(accountPurgeMapper, postLikeCounter);
+        order.verify(accountPurgeMapper).deleteLikes(EMAIL, List.of(1L, 2L));
+        order.verify(postLikeCounter).addAfterCommit(1L, -1);
+        order.verify(postLikeCounter).addAfterCommit(2L, -1);
+    }
+
+    @Test
+    void purgeLikes_leavesCountersAloneWhenNoLikesLeft() {
+        when(accountPurgeMapper.findLikedPostIds(EMAIL, 500)).thenReturn(List.of());
+
+        assertThat(accountPurgeService.purgeLikes(EMAIL, 500)).isZero();
+
+        verify(accountPurgeMapper, never()).deleteLikes(anyString(), anyList());
+        verify(postLikeCounter, never()).addAfterCommit(anyLong(), anyLong());
+    }
+
+    @Test
+    void purgeDietRecords_deletesFoodsBeforeRecords() {
+        when(accountPurgeMapper.findDietRecordIds(EMAIL, 500)).thenReturn(List.of(7L));
+
+        assertThat(accountPurgeService.purgeDietRecords(EMAIL, 500)).isEqualTo(1);
+
+        InOrder order = inOrder(accountPurgeMapper);
+        order.verify(accountPurgeMapper).deleteDietFoods(List.of(7L));
+        order.verify(accountPurgeMapper).deleteDietRecords(List.of(7L));
+    }
+}
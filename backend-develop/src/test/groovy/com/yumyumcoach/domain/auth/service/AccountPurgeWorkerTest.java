@@ -0,0 +1,90 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.mapper.AccountPurgeMapper;
+import com.yumyumcoach.domain.community.service.FeedPageCache;
+import com.yumyumcoach.domain.community.service.TimelineService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPurgeWorkerTest {
+    private static final String EMAIL = "bye@yumyum.com";
+
+    @Mock
+    private AccountPurgeMapper accountPurgeMapper;
+    @Mock
+    private AccountPurgeService accountPurgeService;
+    @Mock
+    private FeedPageCache feedPageCache;
+    @Mock
+    private TimelineService timelineService;
+
+    @InjectMocks
+    private AccountPurgeWorker accountPurgeWorker;
+
+    @Test
+    void purge_waitsForPostsAndEvictsTheFeedOnceTheyAreMarked() {
+        when(accountPurgeMapper.findLivePostIds(eq(EMAIL), anyInt())).thenReturn(List.of(7L, 8L, 9L), List.of());
+        when(accountPurgeMapper.existsPosts(EMAIL)).thenReturn(true);
+
+        accountPurgeWorker.purge(EMAIL);
+
+        verify(accountPurgeMapper).markPostsDeleted(List.of(7L, 8L, 9L));
+        verify(timelineService).onPostsDeleted(List.of(7L, 8L, 9L));
+        verify(feedPageCache).evictAllAfterCommit();
+        verifyNoInteractions(accountPurgeService);
+        verify(accountPurgeMapper, never()).deleteAccount(anyString());
+    }
+
+    @Test
+    void purge_removesActivityInBatchesAndTheAccountLast() {
+        when(accountPurgeService.purgeComments(eq(EMAIL), anyInt())).thenReturn(500, 2);
+
+        accountPurgeWorker.purge(EMAIL);
+
+        verifyNoInteractions(feedPageCache, timelineService);
+        verify(accountPurgeMapper, never()).markPostsDeleted(anyList());
+        InOrder order = inOrder(accountPurgeMapper, accountPurgeService);
+        order.verify(accountPurgeMapper).findLivePostIds(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).existsPosts(EMAIL);
+        order.verify(accountPurgeService, times(2)).purgeComments(eq(EMAIL), anyInt());
+        order.verify(accountPurgeService).purgeLikes(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteFollowings(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteFollowers(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteTimelineEntries(eq(EMAIL), anyInt());
+        order.verify(accountPurgeService).purgeDietRecords(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteExerciseRecords(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteChallengeParticipants(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteAccountTitles(eq(EMAIL), anyInt());
+        order.verify(accountPurgeMapper).deleteProfile(EMAIL);
+        order.verify(accountPurgeMapper).deleteAccount(EMAIL);
+    }
+
+    @Test
+    void purgeDeletedAccounts_keepsGoingWhenOneAccountFails() {
+        when(accountPurgeMapper.findDeletedEmails(anyInt())).thenReturn(List.of(EMAIL, "next@yumyum.com"));
+        when(accountPurgeService.purgeLikes(eq(EMAIL), anyInt())).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        accountPurgeWorker.purgeDeletedAccounts();
+
+        verify(accountPurgeMapper, never()).deleteAccount(EMAIL);
+        verify(accountPurgeMapper).deleteAccount("next@yumyum.com");
+    }
+}
@@ -0,0 +1,95 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostLikeDelta;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostMapper.xml 에서 실제로 만들어지는 SQL 확인 (DB 없이 MyBatis 설정만 읽음).
+ */
+class PostMapperSqlTest {
+    private static final String NAMESPACE = "com.yumyumcoach.domain.community.mapper.PostMapper.";
+    private static final String HOT_SCORE =
+            "LOG10(GREATEST(likes + 2 * comment_count, 1)) + (UNIX_TIMESTAMP(created_at) - 1767225600) / 45000";
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws IOException {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        String resource = "mapper/community/PostMapper.xml";
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void hotScore_everyWriteUsesTheSharedFragment() {
+        Map<String, Object> range = params("fromId", 0L, "toId", 500L);
+        List<PostLikeDelta> deltas = List.of(PostLikeDelta.builder().postId(1L).delta(3).build());
+        Post post = Post.builder().id(1L).version(2).build();
+
+        assertThat(sql("insert", new Post())).contains(HOT_SCORE);
+        assertThat(hotScoreAssignment(sql("applyLikeDeltas", params("deltas", deltas))))
+                .isEqualTo(HOT_SCORE);
+        assertThat(hotScoreAssignment(sql("increaseCommentCount", 1L))).isEqualTo(HOT_SCORE);
+        assertThat(hotScoreAssignment(sql("decreaseCommentCount", 1L))).isEqualTo(HOT_SCORE);
+        assertThat(hotScoreAssignment(sql("reconcileCommentCounts", range))).isEqualTo(HOT_SCORE);
+        assertThat(hotScoreAssignment(sql("repairLikeCounts", params("posts", List.of(post)))))
+                .isEqualTo(HOT_SCORE);
+    }
+
+    @Test
+    void reconcileCommentCounts_setsCommentCountBeforeRecomputingHotScore() {
+        String sql = sql("reconcileCommentCounts", params("fromId", 0L, "toId", 500L));
+
+        // 단일 테이블 UPDATE 여야 SET 이 왼쪽부터 적용됨
+        assertThat(sql).startsWith("UPDATE posts SET");
+        assertThat(sql.indexOf("comment_count = (SELECT COUNT(*) FROM post_comments"))
+                .isNotNegative()
+                .isLessThan(sql.indexOf("hot_score ="));
+    }
+
+    @Test
+    void findPosts_popularOrdersByHotScoreThenId() {
+        String offset = sql("findPosts", params("sort", "POPULAR", "size", 20, "offset", 0));
+        String cursor = sql("findPostsByCursor", params("sort", "POPULAR", "limit", 21,
+                "cursorScore", new BigDecimal("12.75"), "cursorId", 4L));
+
+        assertThat(offset).contains("hot_score AS score").contains("ORDER BY hot_score DESC, id DESC");
+        assertThat(cursor).contains("AND (hot_score < ? OR (hot_score = ? AND id < ?))")
+                .contains("ORDER BY hot_score DESC, id DESC");
+    }
+
+    private static String hotScoreAssignment(String sql) {
+        int start = sql.indexOf("hot_score = ") + "hot_score = ".length();
+        return sql.substring(start, sql.indexOf(", version", start)).trim();
+    }
+
+    private static String sql(String statementId, Object parameter) {
+        String sql = configuration.getMappedStatement(NAMESPACE + statementId).getBoundSql(parameter).getSql();
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    private static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+}
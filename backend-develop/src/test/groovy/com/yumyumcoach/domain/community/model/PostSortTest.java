@@ -0,0 +1,31 @@
+package com.yumyumcoach.domain.community.model;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostSortTest {
+
+    @Test
+    void resolve_defaultsByKeywordAndFallsBackToLatestWithoutKeyword() {
+        assertThat(PostSort.resolve(null, "단백질")).isEqualTo(PostSort.RELEVANCE);
+        assertThat(PostSort.resolve(" ", null)).isEqualTo(PostSort.LATEST);
+        assertThat(PostSort.resolve("relevance", null)).isEqualTo(PostSort.LATEST);
+        assertThat(PostSort.resolve("latest", "단백질")).isEqualTo(PostSort.LATEST);
+        assertThat(PostSort.resolve(" Popular ", null)).isEqualTo(PostSort.POPULAR);
+    }
+
+    @Test
+    void resolve_rejectsUnknownSort() {
+        assertThatThrownBy(() -> PostSort.resolve("OLDEST", null)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void isScoreOrdered_onlyForScoreSorts() {
+        assertThat(PostSort.LATEST.isScoreOrdered()).isFalse();
+        assertThat(PostSort.RELEVANCE.isScoreOrdered()).isTrue();
+        assertThat(PostSort.POPULAR.isScoreOrdered()).isTrue();
+    }
+}
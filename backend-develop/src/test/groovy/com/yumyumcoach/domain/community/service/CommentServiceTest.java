@@ -0,0 +1,162 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.CommentRequest;
+import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
+import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostComment;
+import com.yumyumcoach.domain.community.entity.PostCommentPageRow;
+import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.user.dto.AuthorCard;
+import com.yumyumcoach.domain.user.service.AuthorCardCache;
+import com.yumyumcoach.global.common.PageCursor;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+    private static final String LOGIN_EMAIL = "me@yumyum.com";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private PostCommentMapper postCommentMapper;
+    @Mock
+    private FeedPageCache feedPageCache;
+    @Mock
+    private AuthorCardCache authorCardCache;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Test
+    void getComments_firstPageReadsOneExtraRowAndEncodesTheLastReturnedComment() {
+        when(postCommentMapper.findPageByPostId(1L, null, null, 3))
+                .thenReturn(List.of(row(10L, 0), row(11L, 1), row(12L, 2)));
+        when(authorCardCache.getAll(anyList())).thenReturn(Map.of(LOGIN_EMAIL,
+                AuthorCard.builder().email(LOGIN_EMAIL).userId(7L).username("me").build()));
+
+        GetCommentsResponse response = commentService.getComments(1L, GetCommentsRequest.builder().size(2).build());
+
+        assertThat(response.getComments()).extracting(CommentResponse::getCommentId).containsExactly(10L, 11L);
+        assertThat(response.getComments()).allSatisfy(comment -> assertThat(comment.getAuthorUsername()).isEqualTo("me"));
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.isHasNext()).isTrue();
+        PageCursor next = PageCursor.decode(response.getNextCursor());
+        assertThat(next.id()).isEqualTo(11L);
+        assertThat(next.keyAsDateTime()).isEqualTo(CREATED_AT.plusMinutes(1));
+    }
+
+    @Test
+    void getComments_nextPageSeeksFromTheCursorAndEndsWithoutCursor() {
+        String cursor = PageCursor.of(CREATED_AT.plusMinutes(1), 11L).encode();
+        when(postCommentMapper.findPageByPostId(1L, CREATED_AT.plusMinutes(1), 11L, 3))
+                .thenReturn(List.of(row(12L, 2)));
+
+        GetCommentsResponse response = commentService.getComments(1L,
+                GetCommentsRequest.builder().size(2).cursor(cursor).build());
+
+        assertThat(response.getComments()).extracting(CommentResponse::getCommentId).containsExactly(12L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getComments_postWithoutCommentsReturnsAnEmptyPage() {
+        when(postCommentMapper.findPageByPostId(1L, null, null, 21))
+                .thenReturn(List.of(PostCommentPageRow.builder().postId(1L).commentCount(0).build()));
+
+        GetCommentsResponse response = commentService.getComments(1L, GetCommentsRequest.builder().build());
+
+        assertThat(response.getComments()).isEmpty();
+        assertThat(response.getTotalCount()).isZero();
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    void getComments_missingPostIsNotFound() {
+        when(postCommentMapper.findPageByPostId(1L, null, null, 21)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> commentService.getComments(1L, GetCommentsRequest.builder().build()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND));
+    }
+
+    @Test
+    void createComment_increasesCommentCountAfterInsert() {
+        when(postMapper.findById(1L)).thenReturn(Post.builder().id(1L).build());
+
+        commentService.createComment(LOGIN_EMAIL, 1L, CommentRequest.builder().content("좋아요").build());
+
+        InOrder order = inOrder(postCommentMapper, postMapper, feedPageCache);
+        order.verify(postCommentMapper).insert(any());
+        order.verify(postMapper).increaseCommentCount(1L);
+        order.verify(feedPageCache).evictPostAfterCommit(1L);
+    }
+
+    @Test
+    void deleteComment_decreasesCommentCountOfThePost() {
+        when(postCommentMapper.findByIdAndPostId(10L, 1L)).thenReturn(comment(10L, LOGIN_EMAIL));
+
+        commentService.deleteComment(LOGIN_EMAIL, 1L, 10L);
+
+        InOrder order = inOrder(postCommentMapper, postMapper);
+        order.verify(postCommentMapper).delete(10L);
+        order.verify(postMapper).decreaseCommentCount(1L);
+    }
+
+    @Test
+    void deleteComment_leavesCounterAloneWhenNotAllowed() {
+        when(postCommentMapper.findByIdAndPostId(10L, 1L)).thenReturn(comment(10L, "other@yumyum.com"));
+
+        assertThatThrownBy(() -> commentService.deleteComment(LOGIN_EMAIL, 1L, 10L))
+                .isInstanceOf(BusinessException.class);
+
+        verify(postCommentMapper, never()).delete(anyLong());
+        verify(postMapper, never()).decreaseCommentCount(anyLong());
+    }
+
+    private static PostCommentPageRow row(long commentId, int minutes) {
+        return PostCommentPageRow.builder()
+                .postId(1L)
+                .commentCount(5)
+                .commentId(commentId)
+                .authorEmail(LOGIN_EMAIL)
+                .content("댓글" + commentId)
+                .createdAt(CREATED_AT.plusMinutes(minutes))
+                .build();
+    }
+
+    private static PostComment comment(long id, String authorEmail) {
+        return PostComment.builder()
+                .id(id)
+                .postId(1L)
+                .authorEmail(authorEmail)
+                .content("댓글" + id)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
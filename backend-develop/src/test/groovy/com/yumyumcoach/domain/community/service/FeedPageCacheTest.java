@@ -0,0 +1,52 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import com.yumyumcoach.domain.community.model.PostSort;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.cache.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedPageCacheTest {
+    private final CacheMetricsRegistry registry = new CacheMetricsRegistry();
+    private final FeedPageCache cache = new FeedPageCache(registry);
+
+    @Test
+    void evictPost_removesOnlyPagesContainingThePost() {
+        String first = FeedPageCache.offsetKey(PostSort.LATEST, 1, 2);
+        String second = FeedPageCache.offsetKey(PostSort.LATEST, 2, 2);
+        cache.put(first, page(1L, 2L), cache.generation());
+        cache.put(second, page(3L, 4L), cache.generation());
+
+        cache.evictPostAfterCommit(3L);
+
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(second)).isNull();
+        CacheStats stats = registry.snapshot().get(0);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_skipsPageLoadedBeforeAnEviction() {
+        String key = FeedPageCache.firstCursorKey(PostSort.POPULAR, 20);
+        long generation = cache.generation();
+
+        cache.evictAllAfterCommit();
+        cache.put(key, page(1L), generation);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    private FeedPageCache.Page page(Long... postIds) {
+        List<PostResponse> posts = Arrays.stream(postIds)
+                .map(id -> PostResponse.builder().postId(id).build())
+                .toList();
+        return FeedPageCache.Page.of(posts, postIds.length, false, null);
+    }
+}
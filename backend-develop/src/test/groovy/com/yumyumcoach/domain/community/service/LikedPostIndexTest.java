@@ -0,0 +1,67 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikedPostIndexTest {
+    private static final String EMAIL = "me@yumyum.com";
+
+    private final PostLikeMapper postLikeMapper = mock(PostLikeMapper.class);
+    private final LikedPostIndex index = new LikedPostIndex(postLikeMapper, new CacheMetricsRegistry());
+
+    @Test
+    void likedAmong_loadsOnceAndFollowsLikeAndUnlike() {
+        when(postLikeMapper.findPostIdsByEmail(anyString(), anyInt())).thenReturn(List.of(30L, 10L, 20L));
+
+        assertThat(index.likedAmong(EMAIL, List.of(10L, 11L, 30L))).containsExactlyInAnyOrder(10L, 30L);
+
+        index.addAfterCommit(EMAIL, 11L);
+        index.removeAfterCommit(EMAIL, 30L);
+
+        assertThat(index.likedAmong(EMAIL, List.of(10L, 11L, 30L))).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(index.isLiked(EMAIL, 20L)).isTrue();
+        verify(postLikeMapper, times(1)).findPostIdsByEmail(anyString(), anyInt());
+        verify(postLikeMapper, never()).findLikedPostIds(anyList(), anyString());
+    }
+
+    @Test
+    void likedAmong_dropsALoadThatRacedWithALikeAndReloadsNextTime() {
+        when(postLikeMapper.findPostIdsByEmail(anyString(), anyInt()))
+                .thenAnswer(inv -> {
+                    // 목록을 읽는 사이에 11번 좋아요가 커밋됨 (읽은 목록에는 없음)
+                    index.addAfterCommit(EMAIL, 11L);
+                    return List.of(10L);
+                })
+                .thenReturn(List.of(10L, 11L));
+
+        assertThat(index.likedAmong(EMAIL, List.of(10L, 11L))).containsExactly(10L);
+        assertThat(index.likedAmong(EMAIL, List.of(10L, 11L))).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(index.isLiked(EMAIL, 11L)).isTrue();
+        verify(postLikeMapper, times(2)).findPostIdsByEmail(anyString(), anyInt());
+    }
+
+    @Test
+    void likedAmong_usesInQueryForUsersWithTooManyLikesWithoutRereadingTheirList() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 10_001).boxed().toList();
+        when(postLikeMapper.findPostIdsByEmail(anyString(), anyInt())).thenReturn(tooMany);
+        when(postLikeMapper.findLikedPostIds(List.of(5L), EMAIL)).thenReturn(List.of(5L));
+
+        assertThat(index.isLiked(EMAIL, 5L)).isTrue();
+        assertThat(index.isLiked(EMAIL, 5L)).isTrue();
+        verify(postLikeMapper, times(1)).findPostIdsByEmail(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,48 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostCommentCountReconcilerTest {
+
+    @Mock
+    private PostMapper postMapper;
+
+    @InjectMocks
+    private PostCommentCountReconciler reconciler;
+
+    @Test
+    void reconcile_walksEveryIdRangeUpToTheMaxId() {
+        when(postMapper.findMaxId()).thenReturn(1_200L);
+
+        reconciler.reconcile();
+
+        InOrder order = inOrder(postMapper);
+        order.verify(postMapper).findMaxId();
+        order.verify(postMapper).reconcileCommentCounts(0L, 500L);
+        order.verify(postMapper).reconcileCommentCounts(500L, 1_000L);
+        order.verify(postMapper).reconcileCommentCounts(1_000L, 1_500L);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void reconcile_doesNothingWithoutPosts() {
+        when(postMapper.findMaxId()).thenReturn(null);
+
+        reconciler.reconcile();
+
+        verify(postMapper, never()).reconcileCommentCounts(anyLong(), anyLong());
+    }
+}
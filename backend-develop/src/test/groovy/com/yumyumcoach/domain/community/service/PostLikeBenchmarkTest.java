@@ -0,0 +1,239 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.PostLikeDelta;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인기 게시글 한 건에 좋아요가 몰릴 때의 처리량 비교 (실제 MySQL).
+ * - before : 기존 PostService.likePost 의 쿼리 그대로 (게시글 조회, 좋아요 여부 조회, post_likes INSERT, posts.likes + 1) 를 한 트랜잭션으로
+ * - after  : 게시글 조회, post_likes INSERT IGNORE 만 트랜잭션에서 하고 증감값은 PostLikeCounter 에 쌓음
+ *            (flush 는 applyLikeDeltas 와 같은 CASE UPDATE 를 별도 연결에서 실행)
+ * - BENCHMARK=true, BENCHMARK_DB_URL(MySQL JDBC URL) 환경변수가 있을 때만 실행
+ * - 여러 연결에서 같은 테이블을 써야 하므로 임시 테이블이 아닌 bench_ 테이블을 만들고 끝나면 삭제
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class PostLikeBenchmarkTest {
+    private static final long HOT_POST_ID = 1L;
+    private static final int THREADS = 8;
+    private static final int LIKES_PER_THREAD = 500;
+
+    private static final String FIND_POST = "SELECT id, likes FROM bench_like_posts WHERE id = ?";
+    private static final String EXISTS_LIKE = """
+            SELECT IF(COUNT(*) > 0, TRUE, FALSE) FROM bench_like_post_likes WHERE post_id = ? AND email = ?""";
+    private static final String INSERT_LIKE = """
+            INSERT INTO bench_like_post_likes (post_id, email, created_at) VALUES (?, ?, ?)""";
+    private static final String INSERT_IGNORE_LIKE = """
+            INSERT IGNORE INTO bench_like_post_likes (post_id, email, created_at) VALUES (?, ?, ?)""";
+    private static final String INCREASE_LIKES = "UPDATE bench_like_posts SET likes = likes + 1 WHERE id = ?";
+    private static final String APPLY_DELTA = """
+            UPDATE bench_like_posts SET likes = GREATEST(likes + CASE id WHEN ? THEN ? ELSE 0 END, 0), version = version + 1
+            WHERE id IN (?)""";
+
+    @BeforeAll
+    static void createTables() throws SQLException {
+        try (Connection connection = connect(); Statement st = connection.createStatement()) {
+            dropTables(st);
+            st.execute("""
+                    CREATE TABLE bench_like_posts (
+                        id BIGINT UNSIGNED NOT NULL,
+                        likes INT NOT NULL DEFAULT 0,
+                        version INT NOT NULL DEFAULT 0,
+                        PRIMARY KEY (id)
+                    ) ENGINE=InnoDB""");
+            st.execute("""
+                    CREATE TABLE bench_like_post_likes (
+                        post_id BIGINT UNSIGNED NOT NULL,
+                        email VARCHAR(255) NOT NULL,
+                        created_at DATETIME NOT NULL,
+                        PRIMARY KEY (post_id, email)
+                    ) ENGINE=InnoDB""");
+        }
+    }
+
+    @AfterAll
+    static void dropTables() throws SQLException {
+        try (Connection connection = connect(); Statement st = connection.createStatement()) {
+            dropTables(st);
+        }
+    }
+
+    @Test
+    void benchmark_singleHotPost() throws Exception {
+        long total = (long) THREADS * LIKES_PER_THREAD;
+
+        resetHotPost();
+        long before = runConcurrently(thread -> {
+            try (Connection connection = connect();
+                 PreparedStatement findPost = connection.prepareStatement(FIND_POST);
+                 PreparedStatement exists = connection.prepareStatement(EXISTS_LIKE);
+                 PreparedStatement insert = connection.prepareStatement(INSERT_LIKE);
+                 PreparedStatement increase = connection.prepareStatement(INCREASE_LIKES)) {
+                connection.setAutoCommit(false);
+                for (int i = 0; i < LIKES_PER_THREAD; i++) {
+                    String email = "before-" + thread + "-" + i + "@bench.com";
+                    findPost.setLong(1, HOT_POST_ID);
+                    consume(findPost);
+                    exists.setLong(1, HOT_POST_ID);
+                    exists.setString(2, email);
+                    consume(exists);
+                    bindLike(insert, email);
+                    insert.executeUpdate();
+                    increase.setLong(1, HOT_POST_ID);
+                    increase.executeUpdate();
+                    connection.commit();
+                }
+            }
+        });
+        assertThat(likesOfHotPost()).isEqualTo(total);
+
+        resetHotPost();
+        Connection flushConnection = connect();
+        PostLikeCounter counter = new PostLikeCounter(flushingMapper(flushConnection));
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(counter::flush, 1_000, 1_000, TimeUnit.MILLISECONDS);
+        long after = runConcurrently(thread -> {
+            try (Connection connection = connect();
+                 PreparedStatement findPost = connection.prepareStatement(FIND_POST);
+                 PreparedStatement insert = connection.prepareStatement(INSERT_IGNORE_LIKE)) {
+                connection.setAutoCommit(false);
+                for (int i = 0; i < LIKES_PER_THREAD; i++) {
+                    findPost.setLong(1, HOT_POST_ID);
+                    consume(findPost);
+                    bindLike(insert, "after-" + thread + "-" + i + "@bench.com");
+                    insert.executeUpdate();
+                    connection.commit();
+                    counter.add(HOT_POST_ID, 1);
+                }
+            }
+        });
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        counter.flush();
+        flushConnection.close();
+        assertThat(likesOfHotPost()).isEqualTo(total);
+
+        System.out.printf("[like benchmark] threads=%d likes=%d%n", THREADS, total);
+        System.out.printf("  row update per like : %,d ms (%,.0f likes/s)%n",
+                TimeUnit.NANOSECONDS.toMillis(before), total * 1e9 / before);
+        System.out.printf("  coalesced counter   : %,d ms (%,.0f likes/s)%n",
+                TimeUnit.NANOSECONDS.toMillis(after), total * 1e9 / after);
+    }
+
+    private static PostMapper flushingMapper(Connection connection) {
+        PostMapper postMapper = mock(PostMapper.class);
+        doAnswer(inv -> {
+            List<PostLikeDelta> deltas = inv.getArgument(0);
+            try (PreparedStatement ps = connection.prepareStatement(APPLY_DELTA)) {
+                for (PostLikeDelta delta : deltas) {
+                    ps.setLong(1, delta.getPostId());
+                    ps.setLong(2, delta.getDelta());
+                    ps.setLong(3, delta.getPostId());
+                    ps.executeUpdate();
+                }
+            }
+            return null;
+        }).when(postMapper).applyLikeDeltas(anyList());
+        return postMapper;
+    }
+
+    private static void resetHotPost() throws SQLException {
+        try (Connection connection = connect(); Statement st = connection.createStatement()) {
+            st.execute("DELETE FROM bench_like_post_likes");
+            st.execute("DELETE FROM bench_like_posts");
+            st.execute("INSERT INTO bench_like_posts (id) VALUES (" + HOT_POST_ID + ")");
+        }
+    }
+
+    private static long likesOfHotPost() throws SQLException {
+        try (Connection connection = connect(); Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT likes FROM bench_like_posts WHERE id = " + HOT_POST_ID)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void bindLike(PreparedStatement ps, String email) throws SQLException {
+        ps.setLong(1, HOT_POST_ID);
+        ps.setString(2, email);
+        ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static void consume(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getObject(1);
+            }
+        }
+    }
+
+    private static void dropTables(Statement st) throws SQLException {
+        st.execute("DROP TABLE IF EXISTS bench_like_post_likes");
+        st.execute("DROP TABLE IF EXISTS bench_like_posts");
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(System.getenv("BENCHMARK_DB_URL"),
+                System.getenv("BENCHMARK_DB_USER"), System.getenv("BENCHMARK_DB_PASSWORD"));
+    }
+
+    private long runConcurrently(ThreadTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger failures = new AtomicInteger();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (SQLException e) {
+                    failures.incrementAndGet();
+                    e.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+        assertThat(failures).hasValue(0);
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws SQLException;
+    }
+}
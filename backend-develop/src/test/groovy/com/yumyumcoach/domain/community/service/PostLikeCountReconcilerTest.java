@@ -0,0 +1,63 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeCountReconcilerTest {
+
+    @Mock
+    private PostMapper postMapper;
+
+    @InjectMocks
+    private PostLikeCountReconciler reconciler;
+
+    @Test
+    void reconcile_repairsOnlyDriftThatStayedWithTheSameVersion() {
+        when(postMapper.findMaxId()).thenReturn(10L);
+        when(postMapper.findLikeCountDrifts(0L, 500L)).thenReturn(
+                List.of(drift(1L, 3), drift(2L, 5)),
+                // 2번은 그 사이 버퍼 증감값이 반영됨 (version 증가), 3번은 새로 어긋남
+                List.of(drift(1L, 3), drift(2L, 6), drift(3L, 1)));
+
+        reconciler.reconcile();
+        verify(postMapper, never()).repairLikeCounts(anyList());
+
+        reconciler.reconcile();
+        verify(postMapper, times(1)).repairLikeCounts(argThat(posts -> posts.size() == 1
+                && posts.get(0).getId() == 1L && posts.get(0).getVersion() == 3));
+    }
+
+    @Test
+    void reconcile_forgetsDriftThatResolvedItself() {
+        when(postMapper.findMaxId()).thenReturn(10L);
+        when(postMapper.findLikeCountDrifts(0L, 500L)).thenReturn(
+                List.of(drift(1L, 3)),
+                List.of(),
+                List.of(drift(1L, 3)));
+
+        reconciler.reconcile();
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        verify(postMapper, never()).repairLikeCounts(anyList());
+    }
+
+    private static Post drift(long id, int version) {
+        return Post.builder().id(id).version(version).build();
+    }
+}
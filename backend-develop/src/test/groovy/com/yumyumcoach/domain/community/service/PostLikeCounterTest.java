@@ -0,0 +1,118 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.PostLikeDelta;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class PostLikeCounterTest {
+    private static final Long HOT_POST_ID = 1L;
+    private static final int THREADS = 8;
+
+    @Test
+    void flush_appliesEveryDeltaExactlyOnceWhileLikesKeepComing() throws Exception {
+        Map<Long, AtomicLong> likes = new ConcurrentHashMap<>();
+        PostLikeCounter counter = new PostLikeCounter(recordingMapper(likes));
+        int perThread = 20_000;
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.flush();
+            }
+        });
+        flusher.start();
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < perThread; i++) {
+                counter.add(HOT_POST_ID, 1);
+                counter.add(HOT_POST_ID + 1, i % 2 == 0 ? 1 : -1);
+            }
+        });
+        running.set(false);
+        flusher.join();
+        counter.flush();
+
+        assertThat(likes.get(HOT_POST_ID).get()).isEqualTo((long) THREADS * perThread);
+        assertThat(likes.getOrDefault(HOT_POST_ID + 1, new AtomicLong()).get()).isZero();
+        assertThat(counter.pendingDelta(HOT_POST_ID)).isZero();
+    }
+
+    @Test
+    void flush_keepsDeltasBufferedWhenUpdateFails() {
+        PostMapper postMapper = mock(PostMapper.class);
+        doThrow(new IllegalStateException("db down")).when(postMapper).applyLikeDeltas(anyList());
+        PostLikeCounter counter = new PostLikeCounter(postMapper);
+
+        counter.add(HOT_POST_ID, 1);
+        counter.add(HOT_POST_ID, 1);
+        counter.flush();
+
+        assertThat(counter.pendingDelta(HOT_POST_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void pendingDelta_excludesTheAmountBeingWritten() {
+        PostMapper postMapper = mock(PostMapper.class);
+        AtomicLong pendingDuringUpdate = new AtomicLong(-1);
+        PostLikeCounter counter = new PostLikeCounter(postMapper);
+        doAnswer(inv -> {
+            // UPDATE 가 커밋되기 전에 조회해도 같은 좋아요가 DB 와 버퍼에서 두 번 세어지면 안 됨
+            pendingDuringUpdate.set(counter.pendingDelta(HOT_POST_ID));
+            return null;
+        }).when(postMapper).applyLikeDeltas(anyList());
+
+        counter.add(HOT_POST_ID, 3);
+        counter.flush();
+
+        assertThat(pendingDuringUpdate).hasValue(0);
+        assertThat(counter.pendingDelta(HOT_POST_ID)).isZero();
+    }
+
+    private PostMapper recordingMapper(Map<Long, AtomicLong> likes) {
+        PostMapper postMapper = mock(PostMapper.class);
+        doAnswer(inv -> {
+            List<PostLikeDelta> deltas = inv.getArgument(0);
+            deltas.forEach(d -> likes.computeIfAbsent(d.getPostId(), id -> new AtomicLong()).addAndGet(d.getDelta()));
+            return null;
+        }).when(postMapper).applyLikeDeltas(anyList());
+        return postMapper;
+    }
+
+    private long runConcurrently(int threads, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.mapper.PostPurgeMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostPurgeWorkerTest {
+
+    @Mock
+    private PostPurgeMapper postPurgeMapper;
+    @Mock
+    private TimelineService timelineService;
+
+    @InjectMocks
+    private PostPurgeWorker postPurgeWorker;
+
+    @Test
+    void purgeDeletedPosts_deletesDependentsInBatchesBeforeThePost() {
+        when(postPurgeMapper.findDeletedPostIds(anyInt())).thenReturn(List.of(1L));
+        when(postPurgeMapper.deleteComments(eq(1L), anyInt())).thenReturn(500, 500, 3);
+
+        postPurgeWorker.purgeDeletedPosts();
+
+        InOrder order = inOrder(postPurgeMapper);
+        order.verify(postPurgeMapper).deleteImages(eq(1L), anyInt());
+        order.verify(postPurgeMapper, times(3)).deleteComments(eq(1L), anyInt());
+        order.verify(postPurgeMapper).deleteLikes(eq(1L), anyInt());
+        order.verify(postPurgeMapper).deleteTimelineEntries(eq(1L), anyInt());
+        order.verify(postPurgeMapper).deletePost(1L);
+        verify(timelineService).onPostDeleted(1L);
+    }
+
+    @Test
+    void purgeDeletedPosts_keepsThePostWhenABatchFails() {
+        when(postPurgeMapper.findDeletedPostIds(anyInt())).thenReturn(List.of(1L, 2L));
+        when(postPurgeMapper.deleteLikes(eq(1L), anyInt())).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        postPurgeWorker.purgeDeletedPosts();
+
+        verify(postPurgeMapper, never()).deletePost(1L);
+        verify(postPurgeMapper).deletePost(2L);
+    }
+}
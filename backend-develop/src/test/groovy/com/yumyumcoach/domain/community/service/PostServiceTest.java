@@ -0,0 +1,290 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.GetPostsRequest;
+import com.yumyumcoach.domain.community.dto.GetPostsResponse;
+import com.yumyumcoach.domain.community.dto.PostRequest;
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostDetailRow;
+import com.yumyumcoach.domain.community.entity.PostImage;
+import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
+import com.yumyumcoach.domain.community.mapper.PostImageMapper;
+import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.user.dto.AuthorCard;
+import com.yumyumcoach.domain.user.service.AuthorCardCache;
+import com.yumyumcoach.global.common.CdnUrlResolver;
+import com.yumyumcoach.global.common.PageCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+    private static final String LOGIN_EMAIL = "me@yumyum.com";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private PostImageMapper postImageMapper;
+    @Mock
+    private PostLikeMapper postLikeMapper;
+    @Mock
+    private PostCommentMapper postCommentMapper;
+    @Mock
+    private CdnUrlResolver cdnUrlResolver;
+    @Mock
+    private PostCountCache postCountCache;
+    @Mock
+    private PostLikeCounter postLikeCounter;
+    @Mock
+    private FeedPageCache feedPageCache;
+    @Mock
+    private TimelineService timelineService;
+    @Mock
+    private LikedPostIndex likedPostIndex;
+    @Mock
+    private AuthorCardCache authorCardCache;
+
+    @InjectMocks
+    private PostService postService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 100})
+    void getPosts_usesFixedNumberOfQueriesRegardlessOfPageSize(int size) {
+        List<Post> posts = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> Post.builder()
+                        .id(id)
+                        .authorEmail("author@yumyum.com")
+                        .title("title" + id)
+                        .content("content" + id)
+                        .createdAt(LocalDateTime.now())
+                        .likes((int) id)
+                        .commentCount(id == 1 ? 3 : 0)
+                        .build())
+                .toList();
+        when(postMapper.findPosts(anyInt(), eq(size), any(), any())).thenReturn(posts);
+        when(postMapper.countPosts(any())).thenReturn((long) size);
+        when(postImageMapper.findByPostIds(anyList())).thenReturn(List.of(
+                PostImage.builder().id(1L).postId(1L).imageUrl("posts/1-a.png").orderIndex(1).build(),
+                PostImage.builder().id(2L).postId(1L).imageUrl("posts/1-b.png").orderIndex(2).build()));
+        when(likedPostIndex.likedAmong(eq(LOGIN_EMAIL), anyList())).thenReturn(Set.of(1L));
+        when(cdnUrlResolver.resolve(anyString())).thenAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+        when(authorCardCache.getAll(anyList())).thenReturn(Map.of("author@yumyum.com",
+                AuthorCard.builder().email("author@yumyum.com").userId(7L).username("author").build()));
+
+        GetPostsResponse response = postService.getPosts(
+                GetPostsRequest.builder().page(1).size(size).build(), LOGIN_EMAIL);
+
+        assertThat(response.getPosts()).hasSize(size);
+        assertThat(response.getPosts().get(0).getImages())
+                .containsExactly("https://cdn/posts/1-a.png", "https://cdn/posts/1-b.png");
+        assertThat(response.getPosts().get(0).getCommentCount()).isEqualTo(3);
+        assertThat(response.getPosts().get(0).isLikedByMe()).isTrue();
+        assertThat(response.getPosts()).allSatisfy(post -> assertThat(post.getAuthorUsername()).isEqualTo("author"));
+
+        // 목록 1 + 이미지 1 + 전체 개수 1 (댓글 수는 posts.comment_count, 좋아요 여부는 LikedPostIndex)
+        assertThat(queryCount()).isEqualTo(3);
+        verify(postImageMapper, never()).findByPostId(anyLong());
+        verify(postLikeMapper, never()).existsByPostIdAndAuthorEmail(anyLong(), anyString());
+    }
+
+    @Test
+    void getPosts_offsetModeKeepsTheOriginalResponseShape() {
+        when(postMapper.findPosts(anyInt(), eq(2), any(), any())).thenReturn(List.of(post(1L, 10)));
+        when(postMapper.countPosts(any())).thenReturn(1L);
+
+        GetPostsResponse response = postService.getPosts(GetPostsRequest.builder().page(1).size(2).build(), null);
+
+        assertThat(response.getTotalCount()).isEqualTo(1L);
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getHasNext()).isNull();
+        verify(postMapper, never()).findPostsByCursor(any(), any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void getPosts_cursorModeFetchesOneExtraRowAndEncodesTheLastReturnedRow() {
+        when(postMapper.findPostsByCursor(isNull(), isNull(), isNull(), eq(3), isNull(), eq("LATEST")))
+                .thenReturn(List.of(post(9L, 30), post(8L, 20), post(7L, 10)));
+        when(postCountCache.get(null)).thenReturn(3L);
+
+        GetPostsResponse first = postService.getPosts(
+                GetPostsRequest.builder().paging("cursor").size(2).build(), null);
+
+        assertThat(first.getPosts()).extracting(PostResponse::getPostId).containsExactly(9L, 8L);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+        PageCursor cursor = PageCursor.decode(first.getNextCursor());
+        assertThat(cursor.id()).isEqualTo(8L);
+        assertThat(cursor.keyAsDateTime()).isEqualTo(CREATED_AT.plusMinutes(20));
+
+        // cursor 만 넘겨도 CURSOR 모드, 마지막 페이지는 nextCursor 없음
+        when(postMapper.findPostsByCursor(eq(CREATED_AT.plusMinutes(20)), isNull(), eq(8L), eq(3), isNull(), eq("LATEST")))
+                .thenReturn(List.of(post(7L, 10)));
+
+        GetPostsResponse last = postService.getPosts(
+                GetPostsRequest.builder().cursor(first.getNextCursor()).size(2).build(), null);
+
+        assertThat(last.getPosts()).extracting(PostResponse::getPostId).containsExactly(7L);
+        assertThat(last.getHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        verify(postMapper, never()).findPosts(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    void getPosts_relevanceCursorCarriesTheExactScoreOfTheLastRow() {
+        BigDecimal lastScore = new BigDecimal("0.0906190574");
+        when(postMapper.findPostsByCursor(isNull(), isNull(), isNull(), eq(2), eq("단백질"), eq("RELEVANCE")))
+                .thenReturn(List.of(scored(5L, new BigDecimal("1.2500000000")), scored(3L, lastScore)));
+
+        GetPostsResponse first = postService.getPosts(
+                GetPostsRequest.builder().paging("CURSOR").keyword(" 단백질 ").size(1).build(), null);
+
+        assertThat(first.getPosts()).extracting(PostResponse::getPostId).containsExactly(5L);
+        assertThat(PageCursor.decode(first.getNextCursor()).keyAsDecimal()).isEqualTo(new BigDecimal("1.2500000000"));
+
+        when(postMapper.findPostsByCursor(isNull(), eq(new BigDecimal("1.2500000000")), eq(5L), eq(2),
+                eq("단백질"), eq("RELEVANCE"))).thenReturn(List.of(scored(3L, lastScore)));
+
+        GetPostsResponse second = postService.getPosts(GetPostsRequest.builder()
+                .keyword("단백질").cursor(first.getNextCursor()).size(1).build(), null);
+
+        assertThat(second.getPosts()).extracting(PostResponse::getPostId).containsExactly(3L);
+        assertThat(second.getHasNext()).isFalse();
+    }
+
+    @Test
+    void getPosts_popularCursorSeeksByHotScore() {
+        when(postMapper.findPostsByCursor(isNull(), eq(new BigDecimal("12.75")), eq(4L), eq(3), isNull(), eq("POPULAR")))
+                .thenReturn(List.of(scored(2L, new BigDecimal("11.5"))));
+
+        GetPostsResponse response = postService.getPosts(GetPostsRequest.builder()
+                .sort("popular").cursor(PageCursor.of(new BigDecimal("12.75"), 4L).encode()).size(2).build(), null);
+
+        assertThat(response.getPosts()).extracting(PostResponse::getPostId).containsExactly(2L);
+        verify(feedPageCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void getPost_loadsPostAndImagesInOneQuery() {
+        when(postMapper.findDetailById(1L)).thenReturn(List.of(
+                PostDetailRow.builder().id(1L).authorEmail("author@yumyum.com").title("t").content("c")
+                        .createdAt(LocalDateTime.now()).likes(2).version(5).imageUrl("a.png").build(),
+                PostDetailRow.builder().id(1L).authorEmail("author@yumyum.com").title("t").content("c")
+                        .createdAt(LocalDateTime.now()).likes(2).version(5).imageUrl("b.png").build()));
+        when(cdnUrlResolver.resolve(anyString())).thenAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+        when(postMapper.findVersionById(1L)).thenReturn(Post.builder()
+                .id(1L).authorEmail("author@yumyum.com").likes(2).version(5).build());
+
+        PostResponse response = postService.getPost(1L, LOGIN_EMAIL);
+
+        assertThat(response.getImages()).containsExactly("https://cdn/a.png", "https://cdn/b.png");
+        assertThat(response.getLikeCount()).isEqualTo(2);
+        assertThat(queryCount()).isEqualTo(1);
+        assertThat(postService.getPostETag(1L, LOGIN_EMAIL)).isEqualTo(response.getEtag());
+    }
+
+    @Test
+    void getPostETag_changesWhenViewerLikesThePost() {
+        when(postMapper.findVersionById(1L)).thenReturn(Post.builder()
+                .id(1L).authorEmail("author@yumyum.com").likes(2).version(5).build());
+        String before = postService.getPostETag(1L, LOGIN_EMAIL);
+
+        when(postLikeCounter.pendingDelta(1L)).thenReturn(1L);
+        when(likedPostIndex.isLiked(LOGIN_EMAIL, 1L)).thenReturn(true);
+
+        assertThat(postService.getPostETag(1L, LOGIN_EMAIL)).isNotEqualTo(before);
+    }
+
+    @Test
+    void updatePost_textOnlyEditWritesNoImages() {
+        givenPostWithImages("a.png", "b.png");
+
+        postService.updatePost(LOGIN_EMAIL, 1L, PostRequest.builder()
+                .title("new title").content("new content").images(List.of("a.png", "b.png")).build());
+
+        verify(postImageMapper, never()).insertBatch(anyList());
+        verify(postImageMapper, never()).deleteByIds(anyList());
+        verify(postImageMapper, never()).updateOrderIndexesNegated(anyList());
+        verify(postImageMapper, never()).deleteByPostId(anyLong());
+    }
+
+    @Test
+    void updatePost_touchesOnlyChangedImageRows() {
+        givenPostWithImages("a.png", "b.png", "c.png");
+
+        postService.updatePost(LOGIN_EMAIL, 1L, PostRequest.builder()
+                .title("t").content("c").images(List.of("c.png", "a.png", "d.png")).build());
+
+        verify(postImageMapper).deleteByIds(List.of(2L));
+        verify(postImageMapper).updateOrderIndexesNegated(argThat(images -> images.size() == 2
+                && images.get(0).getId() == 3L && images.get(0).getOrderIndex() == 1
+                && images.get(1).getId() == 1L && images.get(1).getOrderIndex() == 2));
+        verify(postImageMapper).flipOrderIndexes(1L);
+        verify(postImageMapper).insertBatch(argThat(images -> images.size() == 1
+                && images.get(0).getImageUrl().equals("d.png") && images.get(0).getOrderIndex() == 3));
+    }
+
+    private static Post post(long id, int minutes) {
+        return Post.builder()
+                .id(id)
+                .authorEmail("author@yumyum.com")
+                .title("title" + id)
+                .content("content" + id)
+                .createdAt(CREATED_AT.plusMinutes(minutes))
+                .build();
+    }
+
+    private static Post scored(long id, BigDecimal score) {
+        return Post.builder()
+                .id(id)
+                .authorEmail("author@yumyum.com")
+                .createdAt(CREATED_AT)
+                .score(score)
+                .build();
+    }
+
+    private void givenPostWithImages(String... imageUrls) {
+        when(postMapper.findById(1L)).thenReturn(Post.builder()
+                .id(1L).authorEmail(LOGIN_EMAIL).title("t").content("c").createdAt(LocalDateTime.now()).build());
+        List<PostImage> images = new ArrayList<>();
+        for (int i = 0; i < imageUrls.length; i++) {
+            images.add(PostImage.builder().id(i + 1L).postId(1L).imageUrl(imageUrls[i]).orderIndex(i + 1).build());
+        }
+        when(postImageMapper.findByPostId(1L)).thenReturn(images);
+    }
+
+    private int queryCount() {
+        return mockingDetails(postMapper).getInvocations().size()
+                + mockingDetails(postImageMapper).getInvocations().size()
+                + mockingDetails(postCommentMapper).getInvocations().size()
+                + mockingDetails(postLikeMapper).getInvocations().size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.yumyumcoach.domain.community.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineBufferTest {
+    private static final String OWNER = "me@yumyum.com";
+
+    private final TimelineBuffer buffer = new TimelineBuffer();
+
+    @Test
+    void page_servesFromBufferAndKeepsNewestFirst() {
+        buffer.load(OWNER, buffer.startLoad(OWNER), List.of(9L, 7L, 5L));
+        buffer.push(List.of(OWNER, "other@yumyum.com"), 8L);
+        buffer.push(List.of(OWNER), 10L);
+        buffer.removePost(7L);
+
+        assertThat(buffer.page(OWNER, null, 3)).containsExactly(10L, 9L, 8L);
+        assertThat(buffer.page(OWNER, 9L, 10)).containsExactly(8L, 5L);
+        assertThat(buffer.isLoaded("other@yumyum.com")).isFalse();
+    }
+
+    @Test
+    void page_returnsNullWhenPageGoesPastTruncatedBuffer() {
+        List<Long> full = LongStream.iterate(1_000L, id -> id - 1)
+                .limit(TimelineBuffer.CAPACITY)
+                .boxed()
+                .toList();
+        buffer.load(OWNER, buffer.startLoad(OWNER), full);
+
+        assertThat(buffer.page(OWNER, null, 20)).hasSize(20).startsWith(1_000L);
+        assertThat(buffer.page(OWNER, full.get(TimelineBuffer.CAPACITY - 10), 20)).isNull();
+        assertThat(buffer.page("unknown@yumyum.com", null, 20)).isNull();
+    }
+
+    @Test
+    void load_keepsPushesAndRemovalsThatArriveWhileReadingTheDatabase() {
+        long generation = buffer.startLoad(OWNER);
+        // DB 를 읽는 동안 커밋된 새 글 / 삭제
+        buffer.push(List.of(OWNER), 12L);
+        buffer.removePost(7L);
+        assertThat(buffer.page(OWNER, null, 3)).isNull();
+
+        buffer.load(OWNER, generation, List.of(9L, 7L, 5L));
+
+        assertThat(buffer.isLoaded(OWNER)).isTrue();
+        assertThat(buffer.page(OWNER, null, 10)).containsExactly(12L, 9L, 5L);
+    }
+
+    @Test
+    void load_isDroppedWhenEvictedWhileReadingTheDatabase() {
+        long generation = buffer.startLoad(OWNER);
+        buffer.evict(OWNER);
+
+        buffer.load(OWNER, generation, List.of(9L, 7L, 5L));
+
+        assertThat(buffer.isLoaded(OWNER)).isFalse();
+        assertThat(buffer.page(OWNER, null, 3)).isNull();
+    }
+}
@@ -0,0 +1,199 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.GetPostsRequest;
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.mapper.TimelineMapper;
+import com.yumyumcoach.domain.user.mapper.FollowMapper;
+import com.yumyumcoach.global.common.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+    private static final String OWNER = "me@yumyum.com";
+    private static final String STAR = "star@yumyum.com";
+    private static final int FAN_OUT_MAX_FOLLOWERS = 2;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Mock
+    private TimelineMapper timelineMapper;
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private FollowMapper followMapper;
+
+    private final TimelineBuffer timelineBuffer = new TimelineBuffer();
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(timelineMapper, postMapper, followMapper, timelineBuffer,
+                FAN_OUT_MAX_FOLLOWERS);
+    }
+
+    @Test
+    void getTimeline_coldLoadReadsTheBufferOnceThenServesFromMemory() {
+        when(timelineMapper.findPostIds(OWNER, null, TimelineBuffer.CAPACITY)).thenReturn(List.of(30L, 20L, 10L));
+        givenPostsExist();
+
+        TimelineService.TimelinePage first = timelineService.getTimeline(request(2, null), OWNER);
+        TimelineService.TimelinePage again = timelineService.getTimeline(request(2, null), OWNER);
+
+        assertThat(first.posts()).extracting(Post::getId).containsExactly(30L, 20L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(PageCursor.decode(first.nextCursor()).id()).isEqualTo(20L);
+        assertThat(again.posts()).extracting(Post::getId).containsExactly(30L, 20L);
+        verify(timelineMapper, times(1)).findPostIds(OWNER, null, TimelineBuffer.CAPACITY);
+    }
+
+    @Test
+    void getTimeline_keepsPostsFannedOutWhileTheBufferIsLoading() {
+        when(timelineMapper.findPostIds(OWNER, null, TimelineBuffer.CAPACITY)).thenAnswer(inv -> {
+            // DB 를 읽는 사이에 다른 요청의 fan-out 이 커밋됨
+            timelineBuffer.push(List.of(OWNER), 40L);
+            return List.of(30L, 20L);
+        });
+        givenPostsExist();
+
+        timelineService.getTimeline(request(10, null), OWNER);
+        TimelineService.TimelinePage page = timelineService.getTimeline(request(10, null), OWNER);
+
+        assertThat(page.posts()).extracting(Post::getId).containsExactly(40L, 30L, 20L);
+    }
+
+    @Test
+    void getTimeline_cursorPageReadsBelowTheCursorId() {
+        when(timelineMapper.findPostIds(OWNER, 20L, 3)).thenReturn(List.of(10L));
+        givenPostsExist();
+
+        TimelineService.TimelinePage page =
+                timelineService.getTimeline(request(2, PageCursor.of(CREATED_AT, 20L).encode()), OWNER);
+
+        assertThat(page.posts()).extracting(Post::getId).containsExactly(10L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTimeline_continuesPastAPageWhosePostsWereAllDeleted() {
+        when(timelineMapper.findPostIds(OWNER, null, TimelineBuffer.CAPACITY)).thenReturn(List.of(30L, 20L, 10L));
+        // 30, 20 은 삭제된 글 (버퍼에는 남아 있음)
+        when(postMapper.findByIds(anyList())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return ids.stream().filter(id -> id < 20L).map(id -> post(id, "writer@yumyum.com")).toList();
+        });
+
+        TimelineService.TimelinePage first = timelineService.getTimeline(request(2, null), OWNER);
+
+        assertThat(first.posts()).isEmpty();
+        assertThat(first.hasNext()).isTrue();
+        assertThat(PageCursor.decode(first.nextCursor()).id()).isEqualTo(20L);
+
+        TimelineService.TimelinePage second = timelineService.getTimeline(request(2, first.nextCursor()), OWNER);
+
+        assertThat(second.posts()).extracting(Post::getId).containsExactly(10L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void getTimeline_mergesPullAuthorPostsByIdWithinThePageSize() {
+        when(followMapper.findEmailsWithFollowersAtLeast(FAN_OUT_MAX_FOLLOWERS + 1)).thenReturn(List.of(STAR));
+        timelineService.refreshPullAuthors();
+        when(timelineMapper.findPostIds(OWNER, null, TimelineBuffer.CAPACITY)).thenReturn(List.of(30L, 10L));
+        when(followMapper.findFolloweeEmailsIn(OWNER, List.of(STAR))).thenReturn(List.of(STAR));
+        when(postMapper.findIdsByAuthors(List.of(STAR), null, 3)).thenReturn(List.of(25L, 20L, 5L));
+        givenPostsExist();
+
+        TimelineService.TimelinePage page = timelineService.getTimeline(request(2, null), OWNER);
+
+        assertThat(page.posts()).extracting(Post::getId).containsExactly(30L, 25L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PageCursor.decode(page.nextCursor()).id()).isEqualTo(25L);
+    }
+
+    @Test
+    void fanOut_pushesToFollowersUpToTheThreshold() {
+        timelineBuffer.load(OWNER, timelineBuffer.startLoad(OWNER), List.of(30L));
+        when(followMapper.findFollowerEmails("writer@yumyum.com", FAN_OUT_MAX_FOLLOWERS + 1))
+                .thenReturn(List.of(OWNER));
+
+        timelineService.fanOut(post(40L, "writer@yumyum.com"));
+
+        verify(timelineMapper).insertEntries(40L, "writer@yumyum.com", CREATED_AT, List.of(OWNER, "writer@yumyum.com"));
+        assertThat(timelineBuffer.page(OWNER, null, 10)).containsExactly(40L, 30L);
+    }
+
+    @Test
+    void fanOut_switchesToPullAboveTheThresholdAndReadsTheAuthorAtQueryTime() {
+        when(followMapper.findFollowerEmails(STAR, FAN_OUT_MAX_FOLLOWERS + 1))
+                .thenReturn(List.of(OWNER, "a@yumyum.com", "b@yumyum.com"));
+
+        timelineService.fanOut(post(40L, STAR));
+
+        verify(timelineMapper).insertEntries(40L, STAR, CREATED_AT, List.of(STAR));
+
+        when(timelineMapper.findPostIds(OWNER, null, TimelineBuffer.CAPACITY)).thenReturn(List.of(30L));
+        when(followMapper.findFolloweeEmailsIn(OWNER, List.of(STAR))).thenReturn(List.of(STAR));
+        when(postMapper.findIdsByAuthors(List.of(STAR), null, 11)).thenReturn(List.of(40L));
+        givenPostsExist();
+
+        TimelineService.TimelinePage page = timelineService.getTimeline(request(10, null), OWNER);
+
+        assertThat(page.posts()).extracting(Post::getId).containsExactly(40L, 30L);
+    }
+
+    @Test
+    void onPostsDeleted_removesTombstonedPostsFromLoadedBuffers() {
+        timelineBuffer.load(OWNER, timelineBuffer.startLoad(OWNER), List.of(40L, 30L, 20L));
+
+        timelineService.onPostsDeleted(List.of(40L, 20L));
+
+        assertThat(timelineBuffer.page(OWNER, null, 10)).containsExactly(30L);
+    }
+
+    @Test
+    void refreshPullAuthors_backfillsFollowersBeforeDroppingADemotedAuthor() {
+        when(followMapper.findEmailsWithFollowersAtLeast(FAN_OUT_MAX_FOLLOWERS + 1))
+                .thenReturn(List.of(STAR))
+                .thenReturn(List.of());
+        timelineService.refreshPullAuthors();
+        verify(timelineMapper, never()).insertRecentPostsForFollowers(STAR, 50);
+
+        timelineBuffer.load(OWNER, timelineBuffer.startLoad(OWNER), List.of(30L));
+        when(followMapper.findFollowerEmails(STAR, FAN_OUT_MAX_FOLLOWERS + 1)).thenReturn(List.of(OWNER));
+
+        timelineService.refreshPullAuthors();
+
+        verify(timelineMapper).insertRecentPostsForFollowers(STAR, 50);
+        assertThat(timelineBuffer.isLoaded(OWNER)).isFalse();
+    }
+
+    private void givenPostsExist() {
+        when(postMapper.findByIds(anyList())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return ids.stream().map(id -> post(id, "writer@yumyum.com")).toList();
+        });
+    }
+
+    private static GetPostsRequest request(int size, String cursor) {
+        return GetPostsRequest.builder().size(size).cursor(cursor).build();
+    }
+
+    private static Post post(Long id, String authorEmail) {
+        return Post.builder().id(id).authorEmail(authorEmail).createdAt(CREATED_AT).build();
+    }
+}
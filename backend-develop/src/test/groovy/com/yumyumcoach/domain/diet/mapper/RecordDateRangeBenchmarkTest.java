@@ -0,0 +1,152 @@
+package com.yumyumcoach.domain.diet.mapper;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DATE(record_date) = ? 조회와 [start, end) 범위 조회 비교 벤치마크.
+ * - BENCHMARK=true, BENCHMARK_DB_URL(MySQL JDBC URL) 환경변수가 있을 때만 실행
+ * - 임시 테이블에 사용자별 여러 해 분량의 식단 기록을 만들어서 같은 날짜를 반복 조회
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class RecordDateRangeBenchmarkTest {
+    private static final int USERS = 200;
+    private static final int YEARS = 3;
+    private static final int MEALS_PER_DAY = 3;
+    private static final int LOOKUPS = 2_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final int DAYS = YEARS * 365;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createHistory() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_DB_URL"),
+                System.getenv("BENCHMARK_DB_USER"), System.getenv("BENCHMARK_DB_PASSWORD"));
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TEMPORARY TABLE IF EXISTS bench_diet_records");
+            st.execute("""
+                    CREATE TEMPORARY TABLE bench_diet_records (
+                        id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+                        email VARCHAR(255) NOT NULL,
+                        record_date DATE NOT NULL,
+                        meal_type VARCHAR(255) NOT NULL,
+                        image_url VARCHAR(1024) DEFAULT NULL,
+                        PRIMARY KEY (id),
+                        KEY idx_bench_diet_records_email_date (email, record_date)
+                    ) ENGINE=InnoDB""");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO bench_diet_records (email, record_date, meal_type) VALUES (?, ?, ?)")) {
+            for (int user = 0; user < USERS; user++) {
+                for (int day = 0; day < DAYS; day++) {
+                    for (int meal = 0; meal < MEALS_PER_DAY; meal++) {
+                        ps.setString(1, "user" + user + "@bench.com");
+                        ps.setDate(2, Date.valueOf(FIRST_DAY.plusDays(day)));
+                        ps.setString(3, "MEAL" + meal);
+                        ps.addBatch();
+                    }
+                }
+                ps.executeBatch();
+                connection.commit();
+            }
+        }
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE bench_diet_records");
+        }
+    }
+
+    @AfterAll
+    static void dropHistory() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void benchmark_dailyLookup() throws SQLException {
+        String byFunction = """
+                SELECT id, record_date, meal_type, image_url
+                FROM bench_diet_records
+                WHERE email = ? AND DATE(record_date) = ?
+                ORDER BY record_date DESC, id DESC
+                LIMIT 20""";
+        String byRange = """
+                SELECT id, record_date, meal_type, image_url
+                FROM bench_diet_records
+                WHERE email = ? AND record_date >= ? AND record_date < ?
+                ORDER BY record_date DESC, id DESC
+                LIMIT 20""";
+
+        // 워밍업 (버퍼 풀 적재)
+        run(byFunction, false, LOOKUPS / 10);
+        run(byRange, true, LOOKUPS / 10);
+
+        long functionNanos = run(byFunction, false, LOOKUPS);
+        long rangeNanos = run(byRange, true, LOOKUPS);
+
+        System.out.printf("[date range benchmark] users=%d years=%d rows=%,d lookups=%d%n",
+                USERS, YEARS, (long) USERS * DAYS * MEALS_PER_DAY, LOOKUPS);
+        System.out.printf("  DATE(record_date) = ? : %,d ms (%,.1f us/lookup)%n",
+                TimeUnit.NANOSECONDS.toMillis(functionNanos), functionNanos / 1e3 / LOOKUPS);
+        System.out.printf("  [start, end) range    : %,d ms (%,.1f us/lookup)%n",
+                TimeUnit.NANOSECONDS.toMillis(rangeNanos), rangeNanos / 1e3 / LOOKUPS);
+        printPlan("EXPLAIN " + byFunction, false);
+        printPlan("EXPLAIN " + byRange, true);
+    }
+
+    private long run(String sql, boolean range, int lookups) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < lookups; i++) {
+                bind(ps, range, "user" + random.nextInt(USERS) + "@bench.com",
+                        FIRST_DAY.plusDays(random.nextInt(DAYS)));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void printPlan(String sql, boolean range) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            bind(ps, range, "user0@bench.com", FIRST_DAY.plusDays(DAYS / 2));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    System.out.printf("  plan(%s) : type=%s key=%s rows=%s extra=%s%n",
+                            range ? "range" : "function", rs.getString("type"), rs.getString("key"),
+                            rs.getString("rows"), rs.getString("Extra"));
+                }
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, boolean range, String email, LocalDate date) throws SQLException {
+        ps.setString(1, email);
+        ps.setDate(2, Date.valueOf(date));
+        if (range) {
+            ps.setDate(3, Date.valueOf(date.plusDays(1)));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietImportError;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
+import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DietImportServiceTest {
+    private static final String EMAIL = "me@yumyum.com";
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+    // 이 값보다 작은 음식 ID 만 존재하는 것으로 취급
+    private static final long KNOWN_FOOD_IDS_BELOW = 100L;
+
+    private final SqlSessionTemplate batchSqlSession = mock(SqlSessionTemplate.class);
+    private final DietRecordMapper dietRecordMapper = mock(DietRecordMapper.class);
+    private final DietFoodMapper dietFoodMapper = mock(DietFoodMapper.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final FoodSearchIndex foodSearchIndex = mock(FoodSearchIndex.class);
+    private final FoodNutrientCache foodNutrientCache = mock(FoodNutrientCache.class);
+    private final DietImportService dietImportService = new DietImportService(batchSqlSession,
+            new TransactionTemplate(transactionManager), foodSearchIndex, foodNutrientCache,
+            mock(WeeklyStatsCache.class));
+
+    @BeforeEach
+    void setUp() {
+        when(batchSqlSession.getMapper(DietRecordMapper.class)).thenReturn(dietRecordMapper);
+        when(batchSqlSession.getMapper(DietFoodMapper.class)).thenReturn(dietFoodMapper);
+        when(foodNutrientCache.getAll(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream()
+                    .filter(id -> id < KNOWN_FOOD_IDS_BELOW)
+                    .collect(Collectors.toMap(Function.identity(), id -> FoodDto.builder().id(id).build()));
+        });
+    }
+
+    @Test
+    void importDiets_groupsConsecutiveLinesOfTheSameDateAndMeal() {
+        DietImportResponse response = importLines(
+                line(DAY, "BREAKFAST", 1),
+                line(DAY, "BREAKFAST", 2),
+                line(DAY, "LUNCH", 3),
+                line(DAY, "BREAKFAST", 4));
+
+        List<CreateDietRecordRequest> records = insertedRecords(3);
+        assertThat(records).extracting(CreateDietRecordRequest::getMealType)
+                .containsExactly("BREAKFAST", "LUNCH", "BREAKFAST");
+        assertThat(records.get(0).getItems()).extracting(CreateDietFoodRequest::getFoodId).containsExactly(1L, 2L);
+        assertThat(records.get(0).getItems()).extracting(CreateDietFoodRequest::getOrderIndex).containsExactly(1, 2);
+        assertThat(response.getImportedRecords()).isEqualTo(3);
+        assertThat(response.getImportedItems()).isEqualTo(4);
+        assertThat(response.getFailedLines()).isZero();
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void importDiets_splitsARecordAfterOneHundredItems() {
+        DietImportResponse response = importLines(IntStream.range(0, 101)
+                .mapToObj(i -> line(DAY, "DINNER", 1))
+                .toArray(String[]::new));
+
+        List<CreateDietRecordRequest> records = insertedRecords(2);
+        assertThat(records.get(0).getItems()).hasSize(100);
+        assertThat(records.get(1).getItems()).hasSize(1);
+        assertThat(response.getImportedItems()).isEqualTo(101);
+    }
+
+    @Test
+    void importDiets_reportsAFailedChunkAndStillCommitsTheNextOne() {
+        doThrow(new IllegalStateException("deadlock"))
+                .doReturn(1)
+                .when(dietFoodMapper).insertDietFoods(any(), any());
+
+        // 하루 한 끼씩 501개 식단 -> 500개 묶음 + 1개 묶음
+        DietImportResponse response = importLines(IntStream.range(0, 501)
+                .mapToObj(i -> line(DAY.plusDays(i), "LUNCH", 1))
+                .toArray(String[]::new));
+
+        assertThat(response.getImportedRecords()).isEqualTo(1);
+        assertThat(response.getFailedLines()).isEqualTo(500);
+        assertThat(response.getErrors()).hasSize(500);
+        assertThat(response.getErrors().get(0).getLine()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(DietImportError::getMessage).containsOnly("저장 중 오류가 발생했습니다.");
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void importDiets_countsEveryBadLineButReportsAtMostOneThousand() {
+        DietImportResponse response = importLines(IntStream.range(0, 1_200)
+                .mapToObj(i -> "not json")
+                .toArray(String[]::new));
+
+        assertThat(response.getTotalLines()).isEqualTo(1_200);
+        assertThat(response.getFailedLines()).isEqualTo(1_200);
+        assertThat(response.getErrors()).hasSize(1_000);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void importDiets_resolvesFoodIdsThroughTheCacheAndNamesThroughTheIndex() {
+        when(foodSearchIndex.findByName("사과")).thenReturn(Optional.of(FoodDto.builder().id(3L).name("사과").build()));
+        when(foodSearchIndex.findByName("없는 음식")).thenReturn(Optional.empty());
+
+        DietImportResponse response = importLines(
+                line(DAY, "SNACK", 7),
+                "{\"recordDate\":\"2026-10-01\",\"mealType\":\"SNACK\",\"foodName\":\"사과\"}",
+                line(DAY, "SNACK", 999),
+                "{\"recordDate\":\"2026-10-01\",\"mealType\":\"SNACK\",\"foodName\":\"없는 음식\"}");
+
+        List<CreateDietRecordRequest> records = insertedRecords(1);
+        assertThat(records.get(0).getItems()).extracting(CreateDietFoodRequest::getFoodId).containsExactly(7L, 3L);
+        assertThat(response.getErrors()).extracting(DietImportError::getLine).containsExactly(3L, 4L);
+        verify(foodSearchIndex, times(2)).findByName(anyString());
+    }
+
+    @Test
+    void importDiets_looksUpAMissingFoodIdOnlyOnce() {
+        DietImportResponse response = importLines(
+                line(DAY, "SNACK", 999),
+                line(DAY, "SNACK", 999),
+                line(DAY, "SNACK", 999));
+
+        assertThat(response.getFailedLines()).isEqualTo(3);
+        verify(foodNutrientCache, times(1)).getAll(anyCollection());
+    }
+
+    private DietImportResponse importLines(String... lines) {
+        InputStream in = new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return dietImportService.importDiets(EMAIL, in, DietImportService.Format.NDJSON);
+    }
+
+    private List<CreateDietRecordRequest> insertedRecords(int expected) {
+        ArgumentCaptor<CreateDietRecordRequest> captor = ArgumentCaptor.forClass(CreateDietRecordRequest.class);
+        verify(dietRecordMapper, times(expected)).insertDietRecord(eq(EMAIL), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static String line(LocalDate date, String mealType, long foodId) {
+        return "{\"recordDate\":\"" + date + "\",\"mealType\":\"" + mealType + "\",\"foodId\":" + foodId + "}";
+    }
+
+    @Test
+    void parseCsvLine_readsColumnsByHeaderNameWithQuotedFields() {
+        Map<String, Integer> columns = DietImportService.parseCsvHeader("meal_type,record_date,food_name,serve_count");
+
+        DietImportService.ImportLine line = DietImportService.parseCsvLine(columns,
+                "LUNCH,2026-10-01,\"닭가슴살 샐러드, 드레싱 \"\"소\"\"\",1.5");
+
+        assertThat(line.recordDate()).isEqualTo(LocalDate.of(2026, 10, 1));
+        assertThat(line.mealType()).isEqualTo("LUNCH");
+        assertThat(line.foodName()).isEqualTo("닭가슴살 샐러드, 드레싱 \"소\"");
+        assertThat(line.serveCount()).isEqualTo(1.5);
+        assertThat(line.foodId()).isNull();
+    }
+
+    @Test
+    void parseCsvLine_rejectsInvalidLinesAndHeaders() {
+        Map<String, Integer> columns = DietImportService.parseCsvHeader("recordDate,mealType,foodId,serveCount");
+
+        assertThatThrownBy(() -> DietImportService.parseCsvLine(columns, "2026/10/01,LUNCH,1,1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DietImportService.parseCsvLine(columns, "2026-10-01,LUNCH,1,0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DietImportService.parseCsvHeader("date,meal,food"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
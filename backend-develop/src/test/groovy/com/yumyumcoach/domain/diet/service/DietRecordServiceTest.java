@@ -0,0 +1,106 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietFoodDto;
+import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
+import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DietRecordServiceTest {
+    private static final String EMAIL = "me@yumyum.com";
+
+    @Mock
+    private DietRecordMapper dietRecordMapper;
+    @Mock
+    private DietFoodMapper dietFoodMapper;
+    @Mock
+    private FoodNutrientCache foodNutrientCache;
+    @Mock
+    private WeeklyStatsCache weeklyStatsCache;
+
+    @InjectMocks
+    private DietRecordService dietRecordService;
+
+    @Test
+    void updateMyDiet_unchangedItemsWriteNoDietFoods() {
+        when(dietRecordMapper.updateDietRecord(eq(1L), eq(EMAIL), any())).thenReturn(1);
+        givenDietFoods(row(11L, 1, 100L, 1.0), row(12L, 2, 200L, 2.0));
+
+        dietRecordService.updateMyDiet(EMAIL, 1L, request(item(1, 100L, 1.0), item(2, 200L, 2.0)));
+
+        verify(dietFoodMapper, never()).deleteDietFoodsByDietId(anyLong());
+        verify(dietFoodMapper, never()).deleteDietFoodsByIds(anyLong(), anyList());
+        verify(dietFoodMapper, never()).updateDietFoods(anyLong(), anyList());
+        verify(dietFoodMapper, never()).insertDietFoods(anyLong(), anyList());
+        verify(dietRecordMapper, never()).selectOwnerEmail(anyLong());
+    }
+
+    @Test
+    void updateMyDiet_touchesOnlyChangedDietFoodRows() {
+        when(dietRecordMapper.updateDietRecord(eq(1L), eq(EMAIL), any())).thenReturn(1);
+        givenDietFoods(row(11L, 1, 100L, 1.0), row(12L, 2, 200L, 2.0), row(13L, 3, 300L, 1.0));
+
+        dietRecordService.updateMyDiet(EMAIL, 1L,
+                request(item(1, 100L, 1.0), item(2, 200L, 1.5), item(4, 400L, 1.0)));
+
+        verify(dietFoodMapper).deleteDietFoodsByIds(1L, List.of(13L));
+        verify(dietFoodMapper).updateDietFoods(eq(1L), argThat(rows -> rows.size() == 1
+                && rows.get(0).getId() == 12L && rows.get(0).getServeCount() == 1.5));
+        verify(dietFoodMapper).insertDietFoods(eq(1L), argThat(items -> items.size() == 1
+                && items.get(0).getOrderIndex() == 4 && items.get(0).getFoodId() == 400L));
+    }
+
+    @Test
+    void updateMyDiet_otherUsersDietIsForbidden() {
+        when(dietRecordMapper.updateDietRecord(eq(1L), eq(EMAIL), any())).thenReturn(0);
+        when(dietRecordMapper.selectOwnerEmail(1L)).thenReturn("other@yumyum.com");
+
+        assertThatThrownBy(() -> dietRecordService.updateMyDiet(EMAIL, 1L, request(item(1, 100L, 1.0))))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.DIET_FORBIDDEN));
+        verify(dietFoodMapper, never()).selectDietFoodsByDietId(anyLong());
+    }
+
+    private void givenDietFoods(DietFoodDto... rows) {
+        when(dietFoodMapper.selectDietFoodsByDietId(1L)).thenReturn(List.of(rows));
+    }
+
+    private static DietFoodDto row(Long id, int orderIndex, Long foodId, Double serveCount) {
+        return DietFoodDto.builder().id(id).dietId(1L).orderIndex(orderIndex).foodId(foodId).serveCount(serveCount).build();
+    }
+
+    private static CreateDietFoodRequest item(int orderIndex, Long foodId, Double serveCount) {
+        return CreateDietFoodRequest.builder().orderIndex(orderIndex).foodId(foodId).serveCount(serveCount).build();
+    }
+
+    private static CreateDietRecordRequest request(CreateDietFoodRequest... items) {
+        return CreateDietRecordRequest.builder()
+                .recordDate(LocalDate.of(2026, 10, 18))
+                .mealType("LUNCH")
+                .items(List.of(items))
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.DietFoodDto;
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.cache.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoodNutrientCacheTest {
+
+    private final FoodMapper foodMapper = mock(FoodMapper.class);
+    private final CacheMetricsRegistry registry = new CacheMetricsRegistry();
+    private final FoodNutrientCache cache = new FoodNutrientCache(foodMapper, registry);
+
+    @Test
+    void hydrate_loadsOnlyMissingFoodsAndReloadsAfterEviction() {
+        when(foodMapper.selectFoodsByIds(List.of(1L, 2L))).thenReturn(List.of(food(1L, "현미밥", 300.0), food(2L, "김치", 20.0)));
+        when(foodMapper.selectFoodsByIds(List.of(3L))).thenReturn(List.of(food(3L, "계란", 70.0)));
+        when(foodMapper.selectFoodsByIds(List.of(1L))).thenReturn(List.of(food(1L, "현미밥", 310.0)));
+
+        List<DietFoodDto> first = cache.hydrate(List.of(item(1L), item(2L)));
+        List<DietFoodDto> second = cache.hydrate(List.of(item(2L), item(3L)));
+        cache.evictAfterCommit(1L);
+        List<DietFoodDto> third = cache.hydrate(List.of(item(1L)));
+
+        assertThat(first).extracting(DietFoodDto::getFoodName).containsExactly("현미밥", "김치");
+        assertThat(second).extracting(DietFoodDto::getCalories).containsExactly(20.0, 70.0);
+        assertThat(third.get(0).getCalories()).isEqualTo(310.0);
+        verify(foodMapper).selectFoodsByIds(List.of(3L));
+        verify(foodMapper).selectFoodsByIds(List.of(1L));
+
+        CacheStats stats = registry.snapshot().stream()
+                .filter(s -> s.getName().equals("foodNutrients"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(4);
+    }
+
+    private static FoodDto food(Long id, String name, Double calories) {
+        return FoodDto.builder().id(id).name(name).calories(calories).build();
+    }
+
+    private static DietFoodDto item(Long foodId) {
+        return DietFoodDto.builder().foodId(foodId).serveCount(1.0).build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodSearchIndexTest {
+
+    @Test
+    void search_ranksExactThenPrefixThenInfixMatches() {
+        FoodSearchIndex index = indexOf(
+                food(1L, "된장 김치찌개"),
+                food(2L, "김치"),
+                food(3L, "김치볶음밥"),
+                food(4L, "배추김치"),
+                food(5L, "된장찌개"));
+
+        assertThat(names(index.search("김치", 0, 10)))
+                .containsExactly("김치", "김치볶음밥", "배추김치", "된장 김치찌개");
+        // 공백은 무시하고 비교
+        assertThat(names(index.search("김치 찌개", 0, 10))).containsExactly("된장 김치찌개");
+        assertThat(names(index.search("김", 1, 2))).containsExactly("김치볶음밥", "배추김치");
+    }
+
+    @Test
+    void search_matchesInitialConsonantQueries() {
+        FoodSearchIndex index = indexOf(
+                food(1L, "김치찌개"),
+                food(2L, "고추장찌개"),
+                food(3L, "김밥"));
+
+        assertThat(names(index.search("ㄱㅊㅉㄱ", 0, 10))).containsExactly("김치찌개");
+        assertThat(names(index.search("ㄱ", 0, 10))).containsExactly("김밥", "김치찌개", "고추장찌개");
+        assertThat(index.search("ㅉㄱㄱ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_withoutKeywordListsNewestFirst() {
+        FoodSearchIndex index = indexOf(food(1L, "사과"), food(2L, "바나나"), food(3L, "포도"));
+
+        assertThat(names(index.search(null, 0, 2))).containsExactly("포도", "바나나");
+    }
+
+    @Test
+    void changesAreAppliedWithoutReloading() {
+        FoodSearchIndex index = indexOf(food(1L, "사과"), food(2L, "바나나"));
+        index.search("사과", 0, 10);
+
+        index.putAfterCommit(food(3L, "사과주스"));
+        index.putAfterCommit(food(2L, "풋사과"));
+        index.removeAfterCommit(1L);
+
+        assertThat(names(index.search("사과", 0, 10))).containsExactly("사과주스", "풋사과");
+        assertThat(index.search("바나나", 0, 10)).isEmpty();
+    }
+
+    /**
+     * 10만 건 카탈로그 검색 지연 시간
+     * - BENCHMARK=true 환경변수가 있을 때만 실행
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    void benchmark_searchOver100kFoods() {
+        String[] heads = {"김치", "된장", "고추장", "불고기", "닭가슴살", "현미", "잡곡", "소고기", "돼지고기", "두부",
+                "계란", "연어", "참치", "감자", "고구마", "버섯", "시금치", "콩나물", "미역", "오징어"};
+        String[] tails = {"찌개", "볶음", "구이", "조림", "무침", "국", "샐러드", "덮밥", "볶음밥", "전", "튀김", "죽"};
+        Random random = new Random(42);
+        List<FoodDto> foods = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            String name = heads[random.nextInt(heads.length)] + " " + tails[random.nextInt(tails.length)]
+                    + " " + (char) ('가' + random.nextInt(11_172)) + (char) ('가' + random.nextInt(11_172));
+            foods.add(food(id, name));
+        }
+        FoodSearchIndex index = indexOf(foods.toArray(FoodDto[]::new));
+
+        long buildStart = System.nanoTime();
+        index.search("", 0, 1);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        String[] queries = {"김치찌개", "된장", "닭가슴살 샐러드", "ㄱㅊ", "ㄷㄱㅅㅅ", "볶음밥", "고구마 튀김", "현미죽"};
+        for (int i = 0; i < 2_000; i++) {
+            index.search(queries[i % queries.length], 0, 20);
+        }
+
+        int rounds = 20_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            index.search(queries[i % queries.length], 0, 20);
+        }
+        long nanos = System.nanoTime() - start;
+
+        System.out.printf("[food search benchmark] foods=%,d build=%,d ms%n",
+                foods.size(), TimeUnit.NANOSECONDS.toMillis(buildNanos));
+        System.out.printf("  search : %,.1f us/query (%d queries)%n", nanos / 1e3 / rounds, rounds);
+    }
+
+    private static FoodSearchIndex indexOf(FoodDto... foods) {
+        FoodMapper foodMapper = mock(FoodMapper.class);
+        when(foodMapper.selectAllFoods()).thenReturn(List.of(foods));
+        return new FoodSearchIndex(foodMapper);
+    }
+
+    private static FoodDto food(Long id, String name) {
+        return FoodDto.builder().id(id).name(name).build();
+    }
+
+    private static List<String> names(List<FoodDto> foods) {
+        return foods.stream().map(FoodDto::getName).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.domain.user.entity.Profile;
+import com.yumyumcoach.domain.user.mapper.ProfileMapper;
+import com.yumyumcoach.global.common.DateRange;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExerciseCalorieRecomputerTest {
+    private static final String EMAIL = "me@yumyum.com";
+
+    @Test
+    void chunksOf_coversWindowNewestFirstWithoutGaps() {
+        LocalDate today = LocalDate.of(2026, 10, 18);
+
+        List<DateRange> chunks = ExerciseCalorieRecomputer.chunksOf(today, 100);
+
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks.get(0).end()).isEqualTo(today.plusDays(1));
+        assertThat(chunks.get(chunks.size() - 1).start()).isEqualTo(today.minusDays(100));
+        for (int i = 1; i < chunks.size(); i++) {
+            assertThat(chunks.get(i).end()).isEqualTo(chunks.get(i - 1).start());
+        }
+    }
+
+    @Test
+    void recompute_usesCurrentProfileWeightOrDefault() {
+        ExerciseRecordMapper exerciseRecordMapper = mock(ExerciseRecordMapper.class);
+        ProfileMapper profileMapper = mock(ProfileMapper.class);
+        WeeklyStatsCache weeklyStatsCache = mock(WeeklyStatsCache.class);
+        when(profileMapper.findByEmail(EMAIL)).thenReturn(Profile.builder().email(EMAIL).build());
+
+        new ExerciseCalorieRecomputer(exerciseRecordMapper, profileMapper, weeklyStatsCache, 60).recompute(EMAIL);
+
+        verify(exerciseRecordMapper, times(3)).recomputeCalories(eq(EMAIL), eq(ExerciseService.DEFAULT_WEIGHT), any(), any());
+        verify(weeklyStatsCache).evictUserAfterCommit(EMAIL);
+    }
+
+    @Test
+    void caloriesOf_matchesTheRecomputeSqlOnHalfwayValues() throws IOException {
+        // SQL 과 같은 식 (met * 몸무게 * 분 / 60 -> DECIMAL(16, 6) -> ROUND 2) 인지
+        Configuration configuration = new Configuration();
+        String resource = "mapper/exercise/ExerciseRecordMapper.xml";
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        String sql = configuration
+                .getMappedStatement("com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper.recomputeCalories")
+                .getBoundSql(Map.of("email", EMAIL, "weight", 60.0,
+                        "startDate", LocalDate.MIN, "endDate", LocalDate.MAX))
+                .getSql().replaceAll("\\s+", " ");
+        assertThat(sql).contains("SET er.calories = ROUND(CAST(e.met * ? * er.duration_minutes / 60 AS DECIMAL(16, 6)), 2)");
+
+        // DOUBLE 로는 .xx4999... 이지만 DECIMAL(16, 6) 에서 .xx5 가 되어 올림되는 값 (MySQL 결과와 같음)
+        assertThat(ExerciseService.caloriesOf(1.0, 80.1, 7)).isEqualTo(9.35);
+        assertThat(ExerciseService.caloriesOf(1.0, 80.1, 45)).isEqualTo(60.08);
+        assertThat(ExerciseService.caloriesOf(3.3, 55.3, 30)).isEqualTo(91.25);
+        // 정확히 .xx5 (DOUBLE ROUND 였다면 짝수 쪽으로 내림)
+        assertThat(ExerciseService.caloriesOf(1.0, 55.3, 45)).isEqualTo(41.48);
+        assertThat(ExerciseService.caloriesOf(3.3, 55.3, 10)).isEqualTo(30.42);
+        assertThat(ExerciseService.caloriesOf(3.5, ExerciseService.DEFAULT_WEIGHT, 30)).isEqualTo(105.0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.entity.Exercise;
+import com.yumyumcoach.domain.exercise.mapper.ExerciseMapper;
+import com.yumyumcoach.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExerciseCatalogTest {
+
+    private final ExerciseMapper exerciseMapper = mock(ExerciseMapper.class);
+    private final ExerciseCatalog catalog = new ExerciseCatalog(exerciseMapper);
+
+    @Test
+    void metOf_readsFromSnapshotAndReloadsOnlyWhenVersionChanges() {
+        when(exerciseMapper.findCatalogVersion()).thenReturn("2-5-100");
+        when(exerciseMapper.findAll()).thenReturn(List.of(
+                Exercise.builder().id(5L).name("달리기").met(8.0).build(),
+                Exercise.builder().id(1L).name("걷기").met(3.5).build()));
+
+        assertThat(catalog.metOf(1L)).isEqualTo(3.5);
+        assertThat(catalog.metOf(5L)).isEqualTo(8.0);
+        assertThat(catalog.exercises()).extracting("exerciseId").containsExactly(1L, 5L);
+        assertThatThrownBy(() -> catalog.metOf(2L)).isInstanceOf(BusinessException.class);
+
+        catalog.reloadIfChanged();
+        verify(exerciseMapper, times(1)).findAll();
+
+        when(exerciseMapper.findCatalogVersion()).thenReturn("1-1-50");
+        when(exerciseMapper.findAll()).thenReturn(List.of(Exercise.builder().id(1L).name("걷기").met(4.0).build()));
+        catalog.reloadIfChanged();
+
+        assertThat(catalog.metOf(1L)).isEqualTo(4.0);
+        assertThatThrownBy(() -> catalog.metOf(5L)).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.dto.ExerciseRecordRequest;
+import com.yumyumcoach.domain.exercise.dto.ExerciseRecordResponse;
+import com.yumyumcoach.domain.exercise.entity.ExerciseRecord;
+import com.yumyumcoach.domain.exercise.entity.ExerciseRecordWithExercise;
+import com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper;
+import com.yumyumcoach.domain.stats.service.WeeklyStatsCache;
+import com.yumyumcoach.domain.user.entity.Profile;
+import com.yumyumcoach.domain.user.mapper.ProfileMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseServiceTest {
+    private static final String EMAIL = "me@yumyum.com";
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+    @Mock
+    private ExerciseRecordMapper exerciseRecordMapper;
+    @Mock
+    private ProfileMapper profileMapper;
+    @Mock
+    private WeeklyStatsCache weeklyStatsCache;
+
+    @InjectMocks
+    private ExerciseService exerciseService;
+
+    @Test
+    void createMyExerciseRecords_usesFixedNumberOfQueriesAndKeepsRequestOrder() {
+        when(profileMapper.findByEmail(EMAIL)).thenReturn(Profile.builder().currentWeight(70.0).build());
+        when(exerciseCatalog.metOf(1L)).thenReturn(3.5);
+        when(exerciseCatalog.metOf(2L)).thenReturn(8.0);
+        doAnswer(inv -> {
+            List<ExerciseRecord> records = inv.getArgument(0);
+            IntStream.range(0, records.size())
+                    .forEach(i -> ReflectionTestUtils.setField(records.get(i), "id", 100L + i));
+            return null;
+        }).when(exerciseRecordMapper).insertBatch(anyList());
+        when(exerciseRecordMapper.findDetailsByIdsAndEmail(anyList(), eq(EMAIL))).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return ids.stream()
+                    .map(id -> ExerciseRecordWithExercise.builder().id(id).exerciseId(id % 2 == 0 ? 1L : 2L).build())
+                    .toList();
+        });
+
+        List<ExerciseRecordRequest> requests = IntStream.range(0, 10)
+                .mapToObj(i -> ExerciseRecordRequest.builder()
+                        .exerciseId(i % 2 == 0 ? 1L : 2L)
+                        .recordDate(DATE)
+                        .durationMinutes(30.0)
+                        .build())
+                .toList();
+
+        List<ExerciseRecordResponse> responses = exerciseService.createMyExerciseRecords(EMAIL, requests);
+
+        assertThat(responses).extracting(ExerciseRecordResponse::getRecordId)
+                .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> 100L + i).toList());
+        // 프로필 1 + INSERT 1 + 다시 읽기 1 (MET 는 ExerciseCatalog)
+        assertThat(mockingDetails(profileMapper).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(exerciseRecordMapper).getInvocations()).hasSize(2);
+        verify(exerciseRecordMapper).insertBatch(argThat(records -> records.size() == 10
+                && records.get(0).getCalories() == 122.5 && records.get(1).getCalories() == 280.0));
+    }
+}
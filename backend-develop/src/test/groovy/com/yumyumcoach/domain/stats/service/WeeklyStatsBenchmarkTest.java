@@ -0,0 +1,273 @@
+package com.yumyumcoach.domain.stats.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 통계 조회 비교 벤치마크 : 날짜별 조회(7일 x 식단 목록 + 식단별 상세 + 운동 목록) vs 도메인별 GROUP BY 1번씩.
+ * - BENCHMARK=true, BENCHMARK_DB_URL(MySQL JDBC URL) 환경변수가 있을 때만 실행
+ * - 임시 테이블에 사용자별 1년 분량의 식단 / 운동 기록을 만들어서 임의의 주를 반복 조회
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class WeeklyStatsBenchmarkTest {
+    private static final int USERS = 100;
+    private static final int DAYS = 364;
+    private static final int MEALS_PER_DAY = 3;
+    private static final int FOODS_PER_MEAL = 3;
+    private static final int EXERCISES_PER_DAY = 2;
+    private static final int FOODS = 500;
+    private static final int WEEKS = 500;
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2025, 1, 6);
+
+    private static final String DIETS_OF_DAY = """
+            SELECT id FROM bench_diet_records
+            WHERE email = ? AND record_date >= ? AND record_date < ?
+            ORDER BY record_date DESC, id DESC""";
+    private static final String DIET_DETAIL = """
+            SELECT df.serve_count, f.calories, f.carbohydrate, f.protein, f.fat
+            FROM bench_diet_records dr
+                     LEFT JOIN bench_diet_foods df ON dr.id = df.diet_id
+                     LEFT JOIN bench_foods f ON df.food_id = f.id
+            WHERE dr.id = ? AND dr.email = ?
+            ORDER BY df.order_index""";
+    private static final String EXERCISES_OF_DAY = """
+            SELECT id, duration_minutes, calories FROM bench_exercise_records
+            WHERE email = ? AND record_date >= ? AND record_date < ?
+            ORDER BY record_date DESC, id DESC""";
+    private static final String DIET_TOTALS = """
+            SELECT dr.record_date, SUM(f.carbohydrate * df.serve_count), SUM(f.protein * df.serve_count),
+                   SUM(f.fat * df.serve_count), SUM(f.calories * df.serve_count)
+            FROM bench_diet_records dr
+                     JOIN bench_diet_foods df ON df.diet_id = dr.id
+                     JOIN bench_foods f ON f.id = df.food_id
+            WHERE dr.email = ? AND dr.record_date >= ? AND dr.record_date < ?
+            GROUP BY dr.record_date""";
+    private static final String EXERCISE_TOTALS = """
+            SELECT record_date, SUM(duration_minutes), SUM(calories)
+            FROM bench_exercise_records
+            WHERE email = ? AND record_date >= ? AND record_date < ?
+            GROUP BY record_date""";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createHistory() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_DB_URL"),
+                System.getenv("BENCHMARK_DB_USER"), System.getenv("BENCHMARK_DB_PASSWORD"));
+        try (Statement st = connection.createStatement()) {
+            for (String table : List.of("bench_diet_foods", "bench_diet_records", "bench_exercise_records", "bench_foods")) {
+                st.execute("DROP TEMPORARY TABLE IF EXISTS " + table);
+            }
+            st.execute("""
+                    CREATE TEMPORARY TABLE bench_foods (
+                        id BIGINT UNSIGNED NOT NULL,
+                        carbohydrate DOUBLE, protein DOUBLE, fat DOUBLE, calories DOUBLE,
+                        PRIMARY KEY (id)
+                    ) ENGINE=InnoDB""");
+            st.execute("""
+                    CREATE TEMPORARY TABLE bench_diet_records (
+                        id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+                        email VARCHAR(255) NOT NULL,
+                        record_date DATE NOT NULL,
+                        meal_type VARCHAR(255) NOT NULL,
+                        PRIMARY KEY (id),
+                        KEY idx_bench_diet_records_email_date (email, record_date)
+                    ) ENGINE=InnoDB""");
+            st.execute("""
+                    CREATE TEMPORARY TABLE bench_diet_foods (
+                        id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+                        diet_id BIGINT UNSIGNED NOT NULL,
+                        order_index INT NOT NULL,
+                        food_id BIGINT UNSIGNED NOT NULL,
+                        serve_count DOUBLE NOT NULL,
+                        PRIMARY KEY (id),
+                        UNIQUE KEY uq_bench_diet_foods_diet_order (diet_id, order_index)
+                    ) ENGINE=InnoDB""");
+            st.execute("""
+                    CREATE TEMPORARY TABLE bench_exercise_records (
+                        id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+                        email VARCHAR(255) NOT NULL,
+                        exercise_id BIGINT UNSIGNED NOT NULL,
+                        record_date DATE NOT NULL,
+                        duration_minutes DOUBLE NOT NULL,
+                        calories DOUBLE NOT NULL,
+                        PRIMARY KEY (id),
+                        KEY idx_bench_exercise_records_email_date (email, record_date)
+                    ) ENGINE=InnoDB""");
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO bench_foods (id, carbohydrate, protein, fat, calories) VALUES (?, ?, ?, ?, ?)")) {
+            for (int food = 1; food <= FOODS; food++) {
+                ps.setLong(1, food);
+                for (int col = 2; col <= 5; col++) {
+                    ps.setDouble(col, random.nextDouble(1, 300));
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        long dietId = 0;
+        try (PreparedStatement diet = connection.prepareStatement(
+                "INSERT INTO bench_diet_records (id, email, record_date, meal_type) VALUES (?, ?, ?, ?)");
+             PreparedStatement food = connection.prepareStatement(
+                     "INSERT INTO bench_diet_foods (diet_id, order_index, food_id, serve_count) VALUES (?, ?, ?, ?)");
+             PreparedStatement exercise = connection.prepareStatement("""
+                     INSERT INTO bench_exercise_records (email, exercise_id, record_date, duration_minutes, calories)
+                     VALUES (?, ?, ?, ?, ?)""")) {
+            for (int user = 0; user < USERS; user++) {
+                String email = "user" + user + "@bench.com";
+                for (int day = 0; day < DAYS; day++) {
+                    Date date = Date.valueOf(FIRST_MONDAY.plusDays(day));
+                    for (int meal = 0; meal < MEALS_PER_DAY; meal++) {
+                        dietId++;
+                        diet.setLong(1, dietId);
+                        diet.setString(2, email);
+                        diet.setDate(3, date);
+                        diet.setString(4, "MEAL" + meal);
+                        diet.addBatch();
+                        for (int item = 1; item <= FOODS_PER_MEAL; item++) {
+                            food.setLong(1, dietId);
+                            food.setInt(2, item);
+                            food.setLong(3, random.nextInt(1, FOODS + 1));
+                            food.setDouble(4, 1.0);
+                            food.addBatch();
+                        }
+                    }
+                    for (int i = 0; i < EXERCISES_PER_DAY; i++) {
+                        exercise.setString(1, email);
+                        exercise.setLong(2, i + 1);
+                        exercise.setDate(3, date);
+                        exercise.setDouble(4, 30);
+                        exercise.setDouble(5, random.nextDouble(50, 400));
+                        exercise.addBatch();
+                    }
+                }
+                diet.executeBatch();
+                food.executeBatch();
+                exercise.executeBatch();
+                connection.commit();
+            }
+        }
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE bench_foods, bench_diet_records, bench_diet_foods, bench_exercise_records");
+        }
+    }
+
+    @AfterAll
+    static void dropHistory() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void benchmark_weeklyStats() throws SQLException {
+        // 워밍업 (버퍼 풀 적재)
+        runPerDay(WEEKS / 10);
+        runGrouped(WEEKS / 10);
+
+        long[] perDay = runPerDay(WEEKS);
+        long[] grouped = runGrouped(WEEKS);
+
+        System.out.printf("[weekly stats benchmark] users=%d days=%d weeks=%d%n", USERS, DAYS, WEEKS);
+        System.out.printf("  per-day queries : %,d ms (%,.1f us/week, %.1f queries/week)%n",
+                TimeUnit.NANOSECONDS.toMillis(perDay[0]), perDay[0] / 1e3 / WEEKS, (double) perDay[1] / WEEKS);
+        System.out.printf("  grouped queries : %,d ms (%,.1f us/week, %.1f queries/week)%n",
+                TimeUnit.NANOSECONDS.toMillis(grouped[0]), grouped[0] / 1e3 / WEEKS, (double) grouped[1] / WEEKS);
+    }
+
+    // 이전 방식 : 날짜마다 식단 목록 -> 식단별 상세, 운동 목록
+    private long[] runPerDay(int weeks) throws SQLException {
+        long queries = 0;
+        long start = System.nanoTime();
+        try (PreparedStatement diets = connection.prepareStatement(DIETS_OF_DAY);
+             PreparedStatement detail = connection.prepareStatement(DIET_DETAIL);
+             PreparedStatement exercises = connection.prepareStatement(EXERCISES_OF_DAY)) {
+            for (int w = 0; w < weeks; w++) {
+                String email = randomEmail();
+                LocalDate monday = randomMonday();
+                for (int d = 0; d < 7; d++) {
+                    LocalDate day = monday.plusDays(d);
+                    List<Long> dietIds = new ArrayList<>();
+                    bindRange(diets, email, day, day.plusDays(1));
+                    try (ResultSet rs = diets.executeQuery()) {
+                        while (rs.next()) {
+                            dietIds.add(rs.getLong(1));
+                        }
+                    }
+                    queries++;
+                    for (Long dietId : dietIds) {
+                        detail.setLong(1, dietId);
+                        detail.setString(2, email);
+                        consume(detail);
+                        queries++;
+                    }
+                    bindRange(exercises, email, day, day.plusDays(1));
+                    consume(exercises);
+                    queries++;
+                }
+            }
+        }
+        return new long[]{System.nanoTime() - start, queries};
+    }
+
+    // 현재 방식 : 도메인별 주간 GROUP BY 1번씩
+    private long[] runGrouped(int weeks) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement diet = connection.prepareStatement(DIET_TOTALS);
+             PreparedStatement exercise = connection.prepareStatement(EXERCISE_TOTALS)) {
+            for (int w = 0; w < weeks; w++) {
+                String email = randomEmail();
+                LocalDate monday = randomMonday();
+                bindRange(diet, email, monday, monday.plusDays(7));
+                consume(diet);
+                bindRange(exercise, email, monday, monday.plusDays(7));
+                consume(exercise);
+            }
+        }
+        return new long[]{System.nanoTime() - start, 2L * weeks};
+    }
+
+    private static String randomEmail() {
+        return "user" + ThreadLocalRandom.current().nextInt(USERS) + "@bench.com";
+    }
+
+    private static LocalDate randomMonday() {
+        return FIRST_MONDAY.plusWeeks(ThreadLocalRandom.current().nextInt(DAYS / 7));
+    }
+
+    private static void bindRange(PreparedStatement ps, String email, LocalDate start, LocalDate end) throws SQLException {
+        ps.setString(1, email);
+        ps.setDate(2, Date.valueOf(start));
+        ps.setDate(3, Date.valueOf(end));
+    }
+
+    private static void consume(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getObject(1);
+            }
+        }
+    }
+}
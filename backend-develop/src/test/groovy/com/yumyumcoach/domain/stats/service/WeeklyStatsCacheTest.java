@@ -0,0 +1,99 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.dto.WeeklyStatsResponse;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.cache.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyStatsCacheTest {
+    private static final String EMAIL = "me@yumyum.com";
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+
+    private final CacheMetricsRegistry registry = new CacheMetricsRegistry();
+    private final WeeklyStatsCache cache = new WeeklyStatsCache(registry);
+
+    @Test
+    void get_reloadsOnlyTheWeekOfTheChangedRecordDate() {
+        AtomicInteger thisWeekLoads = new AtomicInteger();
+        AtomicInteger lastWeekLoads = new AtomicInteger();
+        Supplier<WeeklyStatsResponse> thisWeek = () -> load(thisWeekLoads, MONDAY);
+        Supplier<WeeklyStatsResponse> lastWeek = () -> load(lastWeekLoads, MONDAY.minusWeeks(1));
+
+        cache.get(EMAIL, MONDAY, thisWeek);
+        cache.get(EMAIL, MONDAY, thisWeek);
+        cache.get(EMAIL, MONDAY.minusWeeks(1), lastWeek);
+        // 이번 주 목요일 기록 변경 (트랜잭션 밖이라 바로 무효화)
+        cache.evictAfterCommit(EMAIL, MONDAY.plusDays(3));
+        cache.get(EMAIL, MONDAY, thisWeek);
+        cache.get(EMAIL, MONDAY.minusWeeks(1), lastWeek);
+        // 다른 사용자 캐시는 그대로
+        cache.evictUserAfterCommit("other@yumyum.com");
+        cache.get(EMAIL, MONDAY.minusWeeks(1), lastWeek);
+
+        assertThat(thisWeekLoads).hasValue(2);
+        assertThat(lastWeekLoads).hasValue(1);
+
+        CacheStats stats = registry.snapshot().stream()
+                .filter(s -> s.getName().equals("weeklyStats"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(stats.getHits()).isEqualTo(3);
+        assertThat(stats.getMisses()).isEqualTo(3);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void evictUserAfterCommit_dropsEveryWeekOfTheUser() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(EMAIL, MONDAY, () -> load(loads, MONDAY));
+        cache.get(EMAIL, MONDAY.minusWeeks(5), () -> load(loads, MONDAY.minusWeeks(5)));
+        cache.evictUserAfterCommit(EMAIL);
+        cache.get(EMAIL, MONDAY, () -> load(loads, MONDAY));
+        cache.get(EMAIL, MONDAY.minusWeeks(5), () -> load(loads, MONDAY.minusWeeks(5)));
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void get_keepsALoadWhenOnlyAnotherUserIsEvictedMeanwhile() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(EMAIL, MONDAY, () -> {
+            // 조회 중에 다른 사용자의 기록이 바뀜
+            cache.evictAfterCommit("other@yumyum.com", MONDAY);
+            cache.evictUserAfterCommit("other@yumyum.com");
+            return load(loads, MONDAY);
+        });
+        cache.get(EMAIL, MONDAY, () -> load(loads, MONDAY));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_dropsALoadWhenTheSameUserIsEvictedMeanwhile() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(EMAIL, MONDAY, () -> {
+            cache.evictAfterCommit(EMAIL, MONDAY.minusWeeks(1));
+            return load(loads, MONDAY);
+        });
+        cache.get(EMAIL, MONDAY, () -> load(loads, MONDAY));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static WeeklyStatsResponse load(AtomicInteger loads, LocalDate weekStart) {
+        loads.incrementAndGet();
+        return WeeklyStatsResponse.builder()
+                .weekStartDate(weekStart)
+                .weekEndDate(weekStart.plusDays(6))
+                .build();
+    }
+}
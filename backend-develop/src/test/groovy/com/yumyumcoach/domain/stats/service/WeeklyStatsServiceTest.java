@@ -0,0 +1,125 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.diet.dto.DailyNutritionTotal;
+import com.yumyumcoach.domain.diet.service.DietRecordService;
+import com.yumyumcoach.domain.exercise.dto.DailyExerciseTotal;
+import com.yumyumcoach.domain.exercise.service.ExerciseService;
+import com.yumyumcoach.domain.stats.dto.DailyDietStat;
+import com.yumyumcoach.domain.stats.dto.DailyExerciseStat;
+import com.yumyumcoach.domain.stats.dto.WeeklyStatsResponse;
+import com.yumyumcoach.global.cache.CacheMetricsRegistry;
+import com.yumyumcoach.global.common.DateRange;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklyStatsServiceTest {
+    private static final String EMAIL = "me@yumyum.com";
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+
+    @Mock
+    private DietRecordService dietRecordService;
+    @Mock
+    private ExerciseService exerciseService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private WeeklyStatsCache weeklyStatsCache = new WeeklyStatsCache(new CacheMetricsRegistry());
+
+    @InjectMocks
+    private WeeklyStatsService weeklyStatsService;
+
+    @Test
+    void getWeeklyStats_loadsEachDomainForTheWeekInOneCallAndZeroFillsEmptyDays() {
+        DateRange week = new DateRange(MONDAY, MONDAY.plusDays(7));
+        when(dietRecordService.getDailyNutritionTotals(EMAIL, week)).thenReturn(List.of(
+                DailyNutritionTotal.builder().recordDate(MONDAY.plusDays(2))
+                        .carbohydrate(120.04).protein(35).fat(12.26).calories(780).build()));
+        when(exerciseService.getDailyExerciseTotals(EMAIL, week)).thenReturn(List.of(
+                DailyExerciseTotal.builder().recordDate(MONDAY.plusDays(6))
+                        .durationMinutes(45).calories(312.46).build()));
+
+        WeeklyStatsResponse response = weeklyStatsService.getWeeklyStats(EMAIL, MONDAY.plusDays(4));
+
+        assertThat(response.getDietStats()).hasSize(7);
+        DailyDietStat wednesday = response.getDietStats().get(2);
+        assertThat(wednesday.getDate()).isEqualTo(MONDAY.plusDays(2));
+        assertThat(wednesday.getTotalCarbohydrate()).isEqualTo(120.0);
+        assertThat(wednesday.getTotalFat()).isEqualTo(12.3);
+        assertThat(wednesday.getTotalCalories()).isEqualTo(780.0);
+        assertThat(response.getDietStats().get(0).getTotalCalories()).isZero();
+
+        assertThat(response.getExerciseStats()).hasSize(7);
+        DailyExerciseStat sunday = response.getExerciseStats().get(6);
+        assertThat(sunday.getTotalDurationMinutes()).isEqualTo(45.0);
+        assertThat(sunday.getTotalCalories()).isEqualTo(312.5);
+        assertThat(response.getExerciseStats().get(0).getTotalCalories()).isZero();
+
+        verify(dietRecordService, times(1)).getDailyNutritionTotals(anyString(), any());
+        verify(exerciseService, times(1)).getDailyExerciseTotals(anyString(), any());
+        verify(exerciseService, never()).getMyExerciseRecords(anyString(), any(), any());
+    }
+
+    @Test
+    void getWeeklyStats_loadsInANewReadOnlyTransactionAndHitsTouchNoConnection() {
+        WeeklyStatsResponse first = weeklyStatsService.getWeeklyStats(EMAIL, MONDAY);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+
+        clearInvocations(transactionManager);
+        WeeklyStatsResponse again = weeklyStatsService.getWeeklyStats(EMAIL, MONDAY.plusDays(3));
+
+        assertThat(again).isSameAs(first);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void dailyNutritionTotals_scaleEachFoodByServeCount() throws IOException {
+        // 주간 식단 통계는 음식 영양 정보 x 인분(serve_count) 의 합
+        Configuration configuration = new Configuration();
+        String resource = "mapper/diet/DietRecordMapper.xml";
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        String sql = configuration
+                .getMappedStatement("com.yumyumcoach.domain.diet.mapper.DietRecordMapper.selectDailyNutritionTotals")
+                .getBoundSql(Map.of("email", EMAIL, "startDate", MONDAY, "endDate", MONDAY.plusDays(7)))
+                .getSql().replaceAll("\\s+", " ");
+
+        assertThat(sql)
+                .contains("COALESCE(SUM(f.carbohydrate * df.serve_count), 0) AS carbohydrate")
+                .contains("COALESCE(SUM(f.protein * df.serve_count), 0) AS protein")
+                .contains("COALESCE(SUM(f.fat * df.serve_count), 0) AS fat")
+                .contains("COALESCE(SUM(f.calories * df.serve_count), 0) AS calories")
+                .contains("GROUP BY dr.record_date");
+    }
+}
@@ -0,0 +1,31 @@
+package com.yumyumcoach.global.common;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatePeriodTest {
+    // 2026-10-18 은 일요일
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 10, 18);
+
+    @Test
+    void rangeOf_returnsHalfOpenWindowContainingTheDate() {
+        assertThat(DatePeriod.DAY.rangeOf(SUNDAY))
+                .isEqualTo(new DateRange(SUNDAY, LocalDate.of(2026, 10, 19)));
+        assertThat(DatePeriod.WEEK.rangeOf(SUNDAY))
+                .isEqualTo(new DateRange(LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 19)));
+        assertThat(DatePeriod.MONTH.rangeOf(LocalDate.of(2028, 2, 29)))
+                .isEqualTo(new DateRange(LocalDate.of(2028, 2, 1), LocalDate.of(2028, 3, 1)));
+    }
+
+    @Test
+    void resolve_defaultsToDayAndRejectsUnknownValues() {
+        assertThat(DatePeriod.resolve(null)).isEqualTo(DatePeriod.DAY);
+        assertThat(DatePeriod.resolve(" week ")).isEqualTo(DatePeriod.WEEK);
+        assertThatThrownBy(() -> DatePeriod.resolve("YEAR")).isInstanceOf(BusinessException.class);
+    }
+}
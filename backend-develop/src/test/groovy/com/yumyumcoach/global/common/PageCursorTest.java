@@ -0,0 +1,43 @@
+package com.yumyumcoach.global.common;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_000_000);
+
+        PageCursor decoded = PageCursor.decode(PageCursor.of(createdAt, 42L).encode());
+
+        assertThat(decoded.keyAsDateTime()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void encodeDecode_keepsEveryDigitOfAScore() {
+        BigDecimal score = new BigDecimal("0.0906190574");
+
+        PageCursor decoded = PageCursor.decode(PageCursor.of(score, 7L).encode());
+
+        assertThat(decoded.keyAsDecimal()).isEqualTo(score);
+        assertThat(PageCursor.decode(PageCursor.of(new BigDecimal("1E-12"), 7L).encode()).keyAsDecimal())
+                .isEqualByComparingTo("0.000000000001");
+    }
+
+    @Test
+    void decode_rejectsMalformedTokens() {
+        assertThatThrownBy(() -> PageCursor.decode("not base64 !!")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.of(BigDecimal.ONE, 1L).encode().substring(1)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> new PageCursor("yesterday", 1L).keyAsDateTime())
+                .isInstanceOf(BusinessException.class);
+    }
+}
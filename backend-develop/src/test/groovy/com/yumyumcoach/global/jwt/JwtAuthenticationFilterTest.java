@@ -0,0 +1,51 @@
+package com.yumyumcoach.global.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            jwtTokenProvider, mock(HandlerExceptionResolver.class), Set.of("admin@test.com"));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_grantsAdminRoleOnlyToConfiguredEmails() throws Exception {
+        assertThat(authenticate("admin@test.com").getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        assertThat(authenticate("user@test.com").getAuthorities()).isEmpty();
+    }
+
+    private Authentication authenticate(String email) throws Exception {
+        String token = "token-" + email;
+        when(jwtTokenProvider.getEmail(token)).thenReturn(email);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/internal/caches");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        assertThat(authentication.get()).isNotNull();
+        assertThat(authentication.get().getName()).isEqualTo(email);
+        return authentication.get();
+    }
+}